@@ -0,0 +1,167 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.benchmarks;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import nullablej.nullvalue.NullValues;
+
+/**
+ * Benchmarks of {@code NullValues.nullValueOf} -- one benchmark for each strategy of finding the null value.
+ * 
+ * @author NawaMan -- nawa@nawaman.net
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NullValuesBenchmark {
+    
+    /** Local annotation so the annotated finders are used (the one from the processor is indexed). */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ ElementType.FIELD, ElementType.METHOD })
+    public static @interface NullValue {
+    }
+    
+    public static class Indexed {
+        @nullablej.nullvalue.processor.NullValue
+        public static final Indexed nullIndexed = new Indexed();
+    }
+    
+    public static class AnnotatedField {
+        @NullValue
+        public static final AnnotatedField nullAnnotatedField = new AnnotatedField();
+    }
+    
+    public static class AnnotatedMethod {
+        private static final AnnotatedMethod nullAnnotatedMethod = new AnnotatedMethod();
+        @NullValue
+        public static AnnotatedMethod emptyAnnotatedMethod() {
+            return nullAnnotatedMethod;
+        }
+    }
+    
+    public static class NamedField {
+        public static final NamedField nullValue = new NamedField();
+    }
+    
+    public static class NamedMethod {
+        private static final NamedMethod theNullValue = new NamedMethod();
+        public static NamedMethod nullValue() {
+            return theNullValue;
+        }
+    }
+    
+    public static class DefaultConstructor {
+        public DefaultConstructor() {
+        }
+    }
+    
+    public static interface DataInterface {
+        public String name();
+    }
+    
+    public static abstract class NoNullValue {
+        public NoNullValue(String name) {
+        }
+    }
+    
+    @Benchmark
+    public Integer known_primitive() {
+        return NullValues.nullValueOf(int.class);
+    }
+    
+    @Benchmark
+    public String known_string() {
+        return NullValues.nullValueOf(String.class);
+    }
+    
+    @Benchmark
+    public String[] known_array() {
+        return NullValues.nullValueOf(String[].class);
+    }
+    
+    @Benchmark
+    @SuppressWarnings("rawtypes")
+    public ArrayList knownNew_arrayList() {
+        return NullValues.nullValueOf(ArrayList.class);
+    }
+    
+    @Benchmark
+    public Indexed indexed() {
+        return NullValues.nullValueOf(Indexed.class);
+    }
+    
+    @Benchmark
+    public AnnotatedField annotatedField() {
+        return NullValues.nullValueOf(AnnotatedField.class);
+    }
+    
+    @Benchmark
+    public AnnotatedMethod annotatedMethod() {
+        return NullValues.nullValueOf(AnnotatedMethod.class);
+    }
+    
+    @Benchmark
+    public NamedField namedField() {
+        return NullValues.nullValueOf(NamedField.class);
+    }
+    
+    @Benchmark
+    public NamedMethod namedMethod() {
+        return NullValues.nullValueOf(NamedMethod.class);
+    }
+    
+    @Benchmark
+    public DefaultConstructor defaultConstructor() {
+        return NullValues.nullValueOf(DefaultConstructor.class);
+    }
+    
+    @Benchmark
+    public DataInterface nullableInterface() {
+        return NullValues.nullValueOf(DataInterface.class);
+    }
+    
+    @Benchmark
+    public NoNullValue notFound() {
+        return NullValues.nullValueOf(NoNullValue.class);
+    }
+    
+}
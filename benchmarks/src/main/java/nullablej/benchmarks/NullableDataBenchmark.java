@@ -0,0 +1,168 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import nullablej.nullabledata.NullableData;
+import nullablej.nullabledata.processor.NullableDataType;
+
+/**
+ * Benchmarks of the method calls on nullable data objects with present and null values.
+ * 
+ * The nullable data of the package-private interface is a dynamic proxy,
+ *   the public interface is spun at runtime
+ *   and the annotated interface is generated at compile time.
+ * 
+ * @author NawaMan -- nawa@nawaman.net
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NullableDataBenchmark {
+    
+    static interface ProxiedPerson {
+        public String name();
+        public int    age();
+        public default String label() {
+            return name() + ":" + age();
+        }
+    }
+    
+    public static interface SpunPerson {
+        public String name();
+        public int    age();
+        public default String label() {
+            return name() + ":" + age();
+        }
+    }
+    
+    @NullableDataType
+    public static interface GeneratedPerson {
+        public String name();
+        public int    age();
+        public default String label() {
+            return name() + ":" + age();
+        }
+    }
+    
+    public static class Person implements ProxiedPerson, SpunPerson, GeneratedPerson {
+        public String name() {
+            return "Jack";
+        }
+        public int age() {
+            return 42;
+        }
+        public String label() {
+            return "Jack:42";
+        }
+    }
+    
+    private ProxiedPerson   presentProxied;
+    private ProxiedPerson   nullProxied;
+    private SpunPerson      presentSpun;
+    private SpunPerson      nullSpun;
+    private GeneratedPerson presentGenerated;
+    private GeneratedPerson nullGenerated;
+    
+    @Setup
+    public void setup() {
+        Person person = new Person();
+        presentProxied   = NullableData.from(() -> person, ProxiedPerson.class);
+        nullProxied      = NullableData.of(null, ProxiedPerson.class);
+        presentSpun      = NullableData.from(() -> person, SpunPerson.class);
+        nullSpun         = NullableData.of(null, SpunPerson.class);
+        presentGenerated = NullableData.from(() -> person, GeneratedPerson.class);
+        nullGenerated    = NullableData.of(null, GeneratedPerson.class);
+    }
+    
+    @Benchmark
+    public String proxy_present() {
+        return presentProxied.name();
+    }
+    
+    @Benchmark
+    public String proxy_null() {
+        return nullProxied.name();
+    }
+    
+    @Benchmark
+    public int proxy_nullPrimitive() {
+        return nullProxied.age();
+    }
+    
+    @Benchmark
+    public String proxy_nullDefault() {
+        return nullProxied.label();
+    }
+    
+    @Benchmark
+    public String spun_present() {
+        return presentSpun.name();
+    }
+    
+    @Benchmark
+    public String spun_null() {
+        return nullSpun.name();
+    }
+    
+    @Benchmark
+    public int spun_nullPrimitive() {
+        return nullSpun.age();
+    }
+    
+    @Benchmark
+    public String spun_nullDefault() {
+        return nullSpun.label();
+    }
+    
+    @Benchmark
+    public String generated_present() {
+        return presentGenerated.name();
+    }
+    
+    @Benchmark
+    public String generated_null() {
+        return nullGenerated.name();
+    }
+    
+    @Benchmark
+    public String generated_nullDefault() {
+        return nullGenerated.label();
+    }
+    
+}
@@ -0,0 +1,171 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.benchmarks;
+
+import static java.util.stream.Collectors.toList;
+import static nullablej.NullableJ._butOnly;
+import static nullablej.NullableJ._butOnlyNonNull;
+import static nullablej.NullableJ._contains;
+import static nullablej.NullableJ._find;
+import static nullablej.NullableJ._hasAll;
+import static nullablej.NullableJ._hasSome;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import nullablej.nullable.Nullable;
+
+/**
+ * Compares the loop-based {@code NullableJ} array and list helpers with the equivalent stream pipelines.
+ * 
+ * The {@code stream_*} benchmarks are the previous stream-based implementations kept as the baseline.
+ * 
+ * @author NawaMan -- nawa@nawaman.net
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NullableJArrayBenchmark {
+    
+    @Param({ "100", "5000" })
+    private int size;
+    
+    private String[]          array;
+    private List<String>      list;
+    private String            lastValue;
+    private Predicate<String> endsWith5;
+    private Predicate<String> isLast;
+    private Predicate<String> nonEmpty;
+    
+    @Setup
+    public void setup() {
+        array = new String[size];
+        list  = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            String value = ((i % 10) == 0) ? null : ("value-" + i);
+            array[i] = value;
+            list.add(value);
+        }
+        lastValue = array[size - 1];
+        endsWith5 = each -> (each != null) && each.endsWith("5");
+        isLast    = each -> lastValue.equals(each);
+        nonEmpty  = each -> (each == null) || !each.isEmpty();
+    }
+    
+    //== Loops ==
+    
+    @Benchmark
+    public boolean loop_contains() {
+        return _contains(array, lastValue);
+    }
+    
+    @Benchmark
+    public String[] loop_butOnly() {
+        return _butOnly(array, endsWith5);
+    }
+    
+    @Benchmark
+    public List<String> loop_butOnlyList() {
+        return _butOnly(list, endsWith5);
+    }
+    
+    @Benchmark
+    public String[] loop_butOnlyNonNull() {
+        return _butOnlyNonNull(array);
+    }
+    
+    @Benchmark
+    public Nullable<String> loop_find() {
+        return _find(array, isLast);
+    }
+    
+    @Benchmark
+    public boolean loop_hasAll() {
+        return _hasAll(list, nonEmpty);
+    }
+    
+    @Benchmark
+    public boolean loop_hasSome() {
+        return _hasSome(array, isLast);
+    }
+    
+    //== Streams ==
+    
+    @Benchmark
+    public boolean stream_contains() {
+        return Arrays.stream(array).filter(each -> Objects.equals(each, lastValue)).findAny().isPresent();
+    }
+    
+    @Benchmark
+    public String[] stream_butOnly() {
+        List<String> matches = Arrays.stream(array).filter(endsWith5).collect(toList());
+        String[]     result  = (String[])Array.newInstance(array.getClass().getComponentType(), matches.size());
+        return matches.toArray(result);
+    }
+    
+    @Benchmark
+    public List<String> stream_butOnlyList() {
+        return list.stream().filter(endsWith5).collect(toList());
+    }
+    
+    @Benchmark
+    public String[] stream_butOnlyNonNull() {
+        return Arrays.stream(array).filter(Objects::nonNull).toArray(String[]::new);
+    }
+    
+    @Benchmark
+    public Nullable<String> stream_find() {
+        return Nullable.of(Arrays.stream(array).filter(isLast).findFirst().orElse(null));
+    }
+    
+    @Benchmark
+    public boolean stream_hasAll() {
+        return list.stream().allMatch(nonEmpty);
+    }
+    
+    @Benchmark
+    public boolean stream_hasSome() {
+        return Arrays.stream(array).anyMatch(isLast);
+    }
+    
+}
@@ -0,0 +1,148 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.benchmarks;
+
+import static nullablej.NullableJ._butOnly;
+import static nullablej.NullableJ._contains;
+import static nullablej.NullableJ._get;
+import static nullablej.NullableJ._or;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the commonly used {@code NullableJ} methods.
+ * 
+ * @author NawaMan -- nawa@nawaman.net
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NullableJBenchmark {
+    
+    private String               nullString;
+    private String               string;
+    private Integer              nullInteger;
+    private String[]             array;
+    private List<String>         list;
+    private Map<String, String>  map;
+    
+    @Setup
+    public void setup() {
+        nullString  = null;
+        string      = "Hello NullableJ";
+        nullInteger = null;
+        array       = new String[100];
+        list        = new ArrayList<>();
+        map         = new HashMap<>();
+        for (int i = 0; i < array.length; i++) {
+            String value = ((i % 10) == 0) ? null : ("value-" + i);
+            array[i] = value;
+            list.add(value);
+            map.put("key-" + i, value);
+        }
+    }
+    
+    @Benchmark
+    public String or_null() {
+        return _or(nullString, "else");
+    }
+    
+    @Benchmark
+    public String or_present() {
+        return _or(string, "else");
+    }
+    
+    @Benchmark
+    public int or_integer() {
+        return _or(nullInteger, 42);
+    }
+    
+    @Benchmark
+    public String get_array() {
+        return _get(array, 50);
+    }
+    
+    @Benchmark
+    public String get_arrayOutOfBound() {
+        return _get(array, 500);
+    }
+    
+    @Benchmark
+    public String get_list() {
+        return _get(list, 50);
+    }
+    
+    @Benchmark
+    public String get_map() {
+        return _get(map, "key-50");
+    }
+    
+    @Benchmark
+    public String get_mapMissing() {
+        return _get(map, "no-such-key");
+    }
+    
+    @Benchmark
+    public boolean contains_string() {
+        return _contains(string, "Nullable");
+    }
+    
+    @Benchmark
+    public boolean contains_array() {
+        return _contains(array, "value-99");
+    }
+    
+    @Benchmark
+    public boolean contains_list() {
+        return _contains(list, "value-99");
+    }
+    
+    @Benchmark
+    public String[] butOnly_array() {
+        return _butOnly(array, each -> (each != null) && each.endsWith("5"));
+    }
+    
+    @Benchmark
+    public List<String> butOnly_list() {
+        return _butOnly(list, each -> (each != null) && each.endsWith("5"));
+    }
+    
+}
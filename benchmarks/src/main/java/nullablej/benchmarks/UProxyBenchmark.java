@@ -0,0 +1,89 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import nullablej.utils.reflection.UProxy;
+
+/**
+ * Benchmarks of the default method invocation of {@code UProxy}.
+ * 
+ * @author NawaMan -- nawa@nawaman.net
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UProxyBenchmark {
+    
+    public static interface Greeter {
+        public default String greet() {
+            return "Hello";
+        }
+        public default String greet(String name) {
+            return "Hello " + name;
+        }
+    }
+    
+    private Greeter  greeter;
+    private Method   greetMethod;
+    private Object[] greetArgs;
+    
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        greeter     = UProxy.createDefaultProxy(Greeter.class);
+        greetMethod = Greeter.class.getMethod("greet", String.class);
+        greetArgs   = new Object[] { "Jack" };
+    }
+    
+    @Benchmark
+    public String defaultProxy_noArgument() {
+        return greeter.greet();
+    }
+    
+    @Benchmark
+    public String defaultProxy_withArgument() {
+        return greeter.greet("Jack");
+    }
+    
+    @Benchmark
+    public Object invokeDefaultMethod() throws Throwable {
+        return UProxy.invokeDefaultMethod(greeter, greetMethod, greetArgs);
+    }
+    
+}
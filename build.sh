@@ -13,6 +13,7 @@ function main() {
     if [[ "$COMMAND" == "quick"         ]]; then build-quick   "$@"; exit 0; fi
     if [[ "$COMMAND" == "test"          ]]; then build-test    "$@"; exit 0; fi
     if [[ "$COMMAND" == "package"       ]]; then build-package "$@"; exit 0; fi
+    if [[ "$COMMAND" == "bench"         ]]; then build-bench   "$@"; exit 0; fi
     if [[ "$COMMAND" == "release"       ]]; then build-release "$@"; exit 0; fi
     if [[ "$COMMAND" == "set-version"   ]]; then set-version   "$@"; exit 0; fi
     if [[ "$COMMAND" == "reset-version" ]]; then reset-version "$@"; exit 0; fi
@@ -52,6 +53,19 @@ function build-test() {
         clean compile test
 }
 
+function build-bench() {
+    build-quick
+    local NULLABLEJ_VERSION=$(project-version)
+    ./mvnw \
+        --no-transfer-progress        \
+        --batch-mode                  \
+        -Dnullablej.version="$NULLABLEJ_VERSION" \
+        --file       benchmarks/pom.xml \
+        --settings   ./settings.xml   \
+        clean package
+    java -jar benchmarks/target/benchmarks.jar "$@"
+}
+
 function build-full() {
     ensure-java-version
     ./mvnw \
@@ -157,6 +171,7 @@ function show-help() {
     echo "  quick  : Quick build skipping tests."
     echo "  test   : Compile and test."
     echo "  package: Compile, test, install and package (signed)."
+    echo "  bench  : Install quickly then run the JMH benchmarks (with GC profiler) -- arguments are passed to JMH."
     echo "  release: Build and release. Must be run while on 'release' branch only."
     echo "  help   : Show this message."
     echo ""
@@ -197,6 +212,16 @@ function current-version() {
     echo -n "$PROJECT_VERSION"
 }
 
+function project-version() {
+    ./mvnw                            \
+        --quiet                       \
+        --batch-mode                  \
+        --settings   ./settings.xml   \
+        -Dexpression=project.version  \
+        -DforceStdout                 \
+        help:evaluate
+}
+
 function ensure-java-version() {
     REQUIRED=$(cat .java-version)
     CURRENT=$(javac -version 2>&1 | awk '{print $2}')
@@ -272,6 +297,10 @@ function set-version() {
     VERSION="${1:-$CURRENT_VERSION}"
     echo ./mvnw versions:set -DnewVersion="$VERSION"
     ./mvnw versions:set -DnewVersion="$VERSION"
+    
+    # The benchmarks are a standalone project -- keep both its version and the benchmarked one in step.
+    ./mvnw --file benchmarks/pom.xml versions:set          -DnewVersion="$VERSION"
+    ./mvnw --file benchmarks/pom.xml versions:set-property -Dproperty=nullablej.version -DnewVersion="$VERSION"
 }
 
 function reset-version() {
@@ -21,18 +21,23 @@
 //  SOFTWARE.
 package nullablej;
 
-import static java.lang.reflect.Array.newInstance;
 import static java.util.Arrays.stream;
 import static java.util.stream.Stream.empty;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -45,6 +50,7 @@ import static java.util.stream.Collectors.toList;
 import static java.util.Collections.emptyList;
 
 import lombok.val;
+import nullablej.collections.NullableCache;
 import nullablej.nullable.Nullable;
 import nullablej.nullvalue.NullValues;
 
@@ -480,7 +486,17 @@ public class NullableJ {
      * @return {@code true} if theGivenString is blank.
      */
     public static boolean _isBlank(String theGivenString) {
-        return (theGivenString == null) || theGivenString.trim().isEmpty();
+        return (theGivenString == null) || (trimStart(theGivenString) == theGivenString.length());
+    }
+    
+    /**
+     * Checks if theGivenText is blank (null or its trim is empty).
+     * 
+     * @param  theGivenText  the given text.
+     * @return {@code true} if theGivenText is blank.
+     */
+    public static boolean _isBlank(CharSequence theGivenText) {
+        return (theGivenText == null) || (trimStart(theGivenText) == theGivenText.length());
     }
     
     /**
@@ -493,11 +509,30 @@ public class NullableJ {
         if (theGivenString == null)
             return null;
         
-        val trimmedString = theGivenString.trim();
-        if (trimmedString.isEmpty())
+        val start = trimStart(theGivenString);
+        val end   = trimEnd(theGivenString, start);
+        if (start == end)
+            return null;
+        
+        return theGivenString.substring(start, end);
+    }
+    
+    /**
+     * Trim the given text and if the result is an empty string, return null.
+     * 
+     * @param theGivenText  the given text.
+     * @return  {@code null} if the given text is null or its trimmed value is empty.
+     */
+    public static String _trimToNull(CharSequence theGivenText) {
+        if (theGivenText == null)
+            return null;
+        
+        val start = trimStart(theGivenText);
+        val end   = trimEnd(theGivenText, start);
+        if (start == end)
             return null;
         
-        return trimmedString;
+        return theGivenText.subSequence(start, end).toString();
     }
     
     /**
@@ -510,8 +545,49 @@ public class NullableJ {
         if (theGivenString == null)
             return "";
         
-        val trimmedString = theGivenString.trim();
-        return trimmedString;
+        val start = trimStart(theGivenString);
+        val end   = trimEnd(theGivenString, start);
+        if (start == end)
+            return "";
+        
+        return theGivenString.substring(start, end);
+    }
+    
+    /**
+     * Trim and return the given text. If the text is null, return empty string.
+     * 
+     * @param theGivenText  the given text.
+     * @return  {@code ""} if the given text is null or its trimmed value.
+     */
+    public static String _trimToEmpty(CharSequence theGivenText) {
+        if (theGivenText == null)
+            return "";
+        
+        val start = trimStart(theGivenText);
+        val end   = trimEnd(theGivenText, start);
+        if (start == end)
+            return "";
+        
+        return theGivenText.subSequence(start, end).toString();
+    }
+    
+    // Same as String.trim() -- all characters up to space are trimmed.
+    
+    private static int trimStart(CharSequence text) {
+        val length = text.length();
+        int start  = 0;
+        while ((start < length) && (text.charAt(start) <= ' ')) {
+            start++;
+        }
+        return start;
+    }
+    
+    private static int trimEnd(CharSequence text, int start) {
+        int end = text.length();
+        while ((end > start) && (text.charAt(end - 1) <= ' ')) {
+            end--;
+        }
+        return end;
     }
     
     /**
@@ -531,6 +607,7 @@ public class NullableJ {
     
     /**
      * Check if the given string matches the regular expression.
+     * The compiled pattern is kept in the shared {@link PatternCache}.
      * 
      * @param theGivenString  the given string.
      * @param theRegex        the regular expression.
@@ -540,12 +617,13 @@ public class NullableJ {
         if (theGivenString == null)
             return false;
         
-        val theResult = theGivenString.matches(theRegex);
+        val theResult = PatternCache.shared().get(theRegex).matcher(theGivenString).matches();
         return theResult;
     }
     
     /**
      * Check if the given string matches the regular expression.
+     * The compiled pattern is kept in the shared {@link PatternCache}.
      * 
      * @param theGivenString  the given string.
      * @param theRegex        the regular expression.
@@ -555,7 +633,7 @@ public class NullableJ {
         if (theGivenString == null)
             return true;
         
-        val theResult = !theGivenString.matches(theRegex);
+        val theResult = !PatternCache.shared().get(theRegex).matcher(theGivenString).matches();
         return theResult;
     }
     
@@ -623,6 +701,7 @@ public class NullableJ {
     
     /**
      * Check if the given string matches the regular expression.
+     * The compiled pattern is kept in the shared {@link PatternCache}.
      * 
      * @param theGivenString  the given string.
      * @param theRegex        the regular expression.
@@ -632,13 +711,14 @@ public class NullableJ {
         if (theGivenString == null)
             return new Otherwise.WithMatchTypes<String>(null, theGivenString);
         
-        val isMatches = theGivenString.matches(theRegex);
+        val isMatches = PatternCache.shared().get(theRegex).matcher(theGivenString).matches();
         val theResult  = isMatches ? theGivenString : null;
         return new Otherwise.WithMatchTypes<String>(theResult, theGivenString);
     }
     
     /**
      * Check if the given string matches the regular expression.
+     * The compiled pattern is kept in the shared {@link PatternCache}.
      * 
      * @param theGivenString  the given string.
      * @param theRegex        the regular expression.
@@ -648,7 +728,7 @@ public class NullableJ {
         if (theGivenString == null)
             return new Otherwise.WithMatchTypes<String>(null, theGivenString);
         
-        val isMatches = theGivenString.matches(theRegex);
+        val isMatches = PatternCache.shared().get(theRegex).matcher(theGivenString).matches();
         val theResult  = isMatches ? null : theGivenString;
         return new Otherwise.WithMatchTypes<String>(theResult, theGivenString);
     }
@@ -833,8 +913,11 @@ public class NullableJ {
             return false;
         
         try {
-            val theResult = _stream$(theGivenArray).filter(each->Objects.equals(each, theNeedle)).findAny().isPresent();
-            return theResult;
+            for (val each : theGivenArray) {
+                if (Objects.equals(each, theNeedle))
+                    return true;
+            }
+            return false;
         } catch (NullPointerException e) {
             return false;
         }
@@ -1057,16 +1140,7 @@ public class NullableJ {
     public static <KEY, VALUE> VALUE _get(Map<KEY, VALUE> map, KEY key) {
         if (map == null)
             return null;
-        if (map.isEmpty())
-            return null;
-        try {
-            if (!map.containsKey(key))
-                return null;
-        } catch (NullPointerException e) {
-            // Some map throws exception for null key.
-            return null;
-        }
-        return map.get(key);
+        return valueOf(map, key);
     }
     
     /**
@@ -1128,16 +1202,58 @@ public class NullableJ {
     public static <KEY, VALUE> VALUE _get(Map<KEY, VALUE> map, KEY key, Function<KEY, VALUE> orFunction) {
         if (map == null)
             return _get(orFunction, key);
-        if (map.isEmpty())
+        
+        val value = valueOf(map, key);
+        if (value == null)
             return _get(orFunction, key);
+        return value;
+    }
+    
+    /**
+     * Get the element in the map associating with the key and return the value from the cache if fail.
+     * 
+     * The value from the cache is computed once and kept (subject to the eviction of the cache) --
+     *   but computed every time without caching if the map or the key is null.
+     * 
+     * @param map        the map.
+     * @param key        the key.
+     * @param orCache    the cache of the values to return if getting the value fail.
+     * @return  the value at the index or from the cache.
+     * 
+     * @param <KEY>   the type of the key of the map.
+     * @param <VALUE> the type of the value of the map.
+     */
+    public static <KEY, VALUE> VALUE _get(Map<KEY, VALUE> map, KEY key, NullableCache<KEY, VALUE> orCache) {
+        val value = (map == null) ? null : valueOf(map, key);
+        if (value != null)
+            return value;
+        if (orCache == null)
+            return null;
+        
+        // Without the map or the key, there is nothing to cache the value for.
+        if ((map == null) || (key == null))
+            return orCache.compute(key);
+        return orCache.get(key);
+    }
+    
+    // A missing key and a key mapped to null are treated the same so one get(...) is enough -- no containsKey(...).
+    private static <KEY, VALUE> VALUE valueOf(Map<KEY, VALUE> map, KEY key) {
+        if ((key == null) && isNullKeyRejected(map))
+            return null;
         try {
-            if (!map.containsKey(key))
-                return _get(orFunction, key);
+            return map.get(key);
         } catch (NullPointerException e) {
-            // Some map throws exception for null key.
-            return _get(orFunction, key);
+            // Some other map throws exception for null key.
+            return null;
         }
-        return _orGet(map.get(key), ()->_get(orFunction, key));
+    }
+    
+    private static boolean isNullKeyRejected(Map<?, ?> map) {
+        if ((map instanceof ConcurrentHashMap) || (map instanceof ConcurrentSkipListMap) || (map instanceof Hashtable))
+            return true;
+        if (map instanceof TreeMap)
+            return ((TreeMap<?, ?>)map).comparator() == null;
+        return false;
     }
     
     /**
@@ -1216,7 +1332,11 @@ public class NullableJ {
             return false;
         if (array.length == 0)
             return false;
-        return stream(array).allMatch(condition);
+        for (val each : array) {
+            if (!condition.test(each))
+                return false;
+        }
+        return true;
     }
     /**
      * Check if all elements in the the given list pass all the check by the condition.
@@ -1232,7 +1352,19 @@ public class NullableJ {
             return false;
         if (list.isEmpty())
             return false;
-        return list.stream().allMatch(condition);
+        if (list instanceof RandomAccess) {
+            val size = list.size();
+            for (int i = 0; i < size; i++) {
+                if (!condition.test(list.get(i)))
+                    return false;
+            }
+            return true;
+        }
+        for (val each : list) {
+            if (!condition.test(each))
+                return false;
+        }
+        return true;
     }
     
     /**
@@ -1249,7 +1381,11 @@ public class NullableJ {
             return false;
         if (array.length == 0)
             return false;
-        return stream(array).anyMatch(condition);
+        for (val each : array) {
+            if (condition.test(each))
+                return true;
+        }
+        return false;
     }
     /**
      * Check if at lease one element in the the given list pass all the check by the condition.
@@ -1265,7 +1401,19 @@ public class NullableJ {
             return false;
         if (list.isEmpty())
             return false;
-        return list.stream().anyMatch(condition);
+        if (list instanceof RandomAccess) {
+            val size = list.size();
+            for (int i = 0; i < size; i++) {
+                if (condition.test(list.get(i)))
+                    return true;
+            }
+            return false;
+        }
+        for (val each : list) {
+            if (condition.test(each))
+                return true;
+        }
+        return false;
     }
     
     /**
@@ -1307,13 +1455,55 @@ public class NullableJ {
      * 
      * @param <OBJECT> the type of the data in the array.
      */
-    @SuppressWarnings("unchecked")
     public static <OBJECT> OBJECT[] _butOnly(OBJECT[] array, Predicate<OBJECT> condition) {
         if (array == null)
             return null;
-        val list = _butOnly$(array, condition).collect(toList());
-        val newArray = (OBJECT[])newInstance(array.getClass().getComponentType(), list.size());
-        return list.toArray(newArray);
+        
+        // The condition is tested once per element so the matches are remembered --
+        //   in a local word for small arrays (no allocation but the result) or in a bitmap of length/64 words.
+        if (array.length <= Long.SIZE) {
+            long matches = 0L;
+            int  count   = 0;
+            for (int i = 0; i < array.length; i++) {
+                if (condition.test(array[i])) {
+                    matches |= (1L << i);
+                    count++;
+                }
+            }
+            if (count == array.length)
+                return array.clone();
+            
+            val newArray = Arrays.copyOf(array, count);
+            copyMatches(array, 0, matches, newArray, 0);
+            return newArray;
+        }
+        
+        val matches = new long[(array.length + 63) >>> 6];
+        int count   = 0;
+        for (int i = 0; i < array.length; i++) {
+            if (condition.test(array[i])) {
+                matches[i >>> 6] |= (1L << (i & 63));
+                count++;
+            }
+        }
+        if (count == array.length)
+            return array.clone();
+        
+        val newArray = Arrays.copyOf(array, count);
+        int index = 0;
+        for (int word = 0; word < matches.length; word++) {
+            index = copyMatches(array, word << 6, matches[word], newArray, index);
+        }
+        return newArray;
+    }
+    
+    private static <OBJECT> int copyMatches(OBJECT[] array, int base, long matches, OBJECT[] target, int index) {
+        long bits = matches;
+        while (bits != 0) {
+            target[index++] = array[base + Long.numberOfTrailingZeros(bits)];
+            bits &= bits - 1;
+        }
+        return index;
     }
     
     /**
@@ -1329,7 +1519,13 @@ public class NullableJ {
     public static <OBJECT, COLLECTION extends Collection<OBJECT>> List<OBJECT> _butOnly(COLLECTION collection, Predicate<OBJECT> condition) {
         if (collection == null)
             return null;
-        return _butOnly$(collection, condition).collect(toList());
+        
+        val newList = new ArrayList<OBJECT>();
+        for (val each : collection) {
+            if (condition.test(each))
+                newList.add(each);
+        }
+        return newList;
     }
     
     /**
@@ -1344,7 +1540,11 @@ public class NullableJ {
     public static <OBJECT> Nullable<OBJECT> _find(OBJECT[] array, Predicate<OBJECT> condition) {
         if (array == null)
             return Nullable.empty();
-        return Nullable.of(stream(array).filter(condition).findFirst().orElse(null));
+        for (val each : array) {
+            if (condition.test(each))
+                return Nullable.of(each);
+        }
+        return Nullable.empty();
     }
     /**
      * Returns the first element that match the given condition.
@@ -1359,7 +1559,11 @@ public class NullableJ {
     public static <OBJECT, COLLECTION extends Collection<OBJECT>> Nullable<OBJECT> _find(COLLECTION collection, Predicate<OBJECT> condition) {
         if (collection == null)
             return Nullable.empty();
-        return Nullable.of(collection.stream().filter(condition).findAny().orElse(null));
+        for (val each : collection) {
+            if (condition.test(each))
+                return Nullable.of(each);
+        }
+        return Nullable.empty();
     }
     
     /**
@@ -1393,6 +1597,56 @@ public class NullableJ {
         return collection.stream().filter(Objects::nonNull);
     }
     
+    /**
+     * Returns the array of the elements of the given array that are not null.
+     * 
+     * @param array  the array.
+     * @return  the array without null or null if the given array is null.
+     * 
+     * @param <OBJECT> the type of the data in the array.
+     */
+    public static <OBJECT> OBJECT[] _butOnlyNonNull(OBJECT[] array) {
+        if (array == null)
+            return null;
+        
+        int count = 0;
+        for (val each : array) {
+            if (each != null)
+                count++;
+        }
+        if (count == array.length)
+            return array.clone();
+        
+        val newArray = Arrays.copyOf(array, count);
+        int index = 0;
+        for (val each : array) {
+            if (each != null)
+                newArray[index++] = each;
+        }
+        return newArray;
+    }
+    
+    /**
+     * Returns the list of the elements of the given collection that are not null.
+     * 
+     * @param collection  the collection.
+     * @return  the list without null or null if the given collection is null.
+     * 
+     * @param <OBJECT>     the type of the data in the list.
+     * @param <COLLECTION> the type of the collection.
+     */
+    public static <OBJECT, COLLECTION extends Collection<OBJECT>> List<OBJECT> _butOnlyNonNull(COLLECTION collection) {
+        if (collection == null)
+            return null;
+        
+        val newList = new ArrayList<OBJECT>(collection.size());
+        for (val each : collection) {
+            if (each != null)
+                newList.add(each);
+        }
+        return newList;
+    }
+    
     /**
      * Returns the stream of from the given stream but does not contains null value.
      * 
@@ -1422,6 +1676,225 @@ public class NullableJ {
         return _butOnlyNonNull$(_butOnlyNonNull$(stream.map(mapper)).flatMap(Collection::stream));
     }
     
+    //== Parallel ==
+    
+    /**
+     * Returns the stream of the non-null elements of the given array that match the given condition.
+     * 
+     * The stream is parallel if the length reaches the {@link ParallelThreshold}.
+     * 
+     * @param array      the array.
+     * @param condition  the condition.
+     * @return  the stream of the matching elements.
+     * 
+     * @param <OBJECT> the type of the data in the array.
+     */
+    public static <OBJECT> Stream<OBJECT> _butOnlyPar$(OBJECT[] array, Predicate<OBJECT> condition) {
+        if (array == null)
+            return empty();
+        return nonNullStream(array).filter(condition);
+    }
+    /**
+     * Returns the stream of the non-null elements of the given collection that match the given condition.
+     * 
+     * The stream is parallel if the size reaches the {@link ParallelThreshold}.
+     * 
+     * @param collection  the collection.
+     * @param condition   the condition.
+     * @return  the stream of the matching elements.
+     * 
+     * @param <OBJECT>     the type of the data in the list.
+     * @param <COLLECTION> the type of the collection.
+     */
+    public static <OBJECT, COLLECTION extends Collection<OBJECT>> Stream<OBJECT> _butOnlyPar$(COLLECTION collection, Predicate<OBJECT> condition) {
+        if (collection == null)
+            return empty();
+        return nonNullStream(collection).filter(condition);
+    }
+    
+    /**
+     * Returns the array of the non-null elements of the given array that match the given condition --
+     *   in parallel if the length reaches the {@link ParallelThreshold}.
+     * 
+     * @param array      the array.
+     * @param condition  the condition.
+     * @return  the matching elements in the original order or null if the given array is null.
+     * 
+     * @param <OBJECT> the type of the data in the array.
+     */
+    public static <OBJECT> OBJECT[] _butOnlyPar(OBJECT[] array, Predicate<OBJECT> condition) {
+        if (array == null)
+            return null;
+        return _butOnlyPar$(array, condition).toArray(length -> Arrays.copyOf(array, length));
+    }
+    /**
+     * Returns the list of the non-null elements of the given collection that match the given condition --
+     *   in parallel if the size reaches the {@link ParallelThreshold}.
+     * 
+     * @param collection  the collection.
+     * @param condition   the condition.
+     * @return  the matching elements in the original order or null if the given collection is null.
+     * 
+     * @param <OBJECT>     the type of the data in the list.
+     * @param <COLLECTION> the type of the collection.
+     */
+    public static <OBJECT, COLLECTION extends Collection<OBJECT>> List<OBJECT> _butOnlyPar(COLLECTION collection, Predicate<OBJECT> condition) {
+        if (collection == null)
+            return null;
+        return _butOnlyPar$(collection, condition).collect(toList());
+    }
+    
+    /**
+     * Returns any non-null element that match the given condition --
+     *   searched in parallel if the length reaches the {@link ParallelThreshold}.
+     * 
+     * @param array      the array.
+     * @param condition  the condition.
+     * @return  the element that match the given condition.
+     * 
+     * @param <OBJECT> the type of the data in the array.
+     */
+    public static <OBJECT> Nullable<OBJECT> _findAnyPar(OBJECT[] array, Predicate<OBJECT> condition) {
+        if (array == null)
+            return Nullable.empty();
+        return Nullable.of(_butOnlyPar$(array, condition).findAny().orElse(null));
+    }
+    /**
+     * Returns any non-null element that match the given condition --
+     *   searched in parallel if the size reaches the {@link ParallelThreshold}.
+     * 
+     * @param collection  the collection.
+     * @param condition   the condition.
+     * @return  the element that match the given condition.
+     * 
+     * @param <OBJECT>     the type of the data in the list.
+     * @param <COLLECTION> the type of the collection.
+     */
+    public static <OBJECT, COLLECTION extends Collection<OBJECT>> Nullable<OBJECT> _findAnyPar(COLLECTION collection, Predicate<OBJECT> condition) {
+        if (collection == null)
+            return Nullable.empty();
+        return Nullable.of(_butOnlyPar$(collection, condition).findAny().orElse(null));
+    }
+    
+    /**
+     * Check if all non-null elements in the the given array pass the condition --
+     *   checked in parallel if the length reaches the {@link ParallelThreshold}.
+     * 
+     * @param array      the array.
+     * @param condition  the condition.
+     * @return  {@code true} if there is a non-null element and all non-null elements pass the condition.
+     * 
+     * @param <OBJECT> the type of the data in the array.
+     */
+    public static <OBJECT> boolean _hasAllPar(OBJECT[] array, Predicate<OBJECT> condition) {
+        if (array == null)
+            return false;
+        if (!hasNonNull(array))
+            return false;
+        return nonNullStream(array).allMatch(condition);
+    }
+    /**
+     * Check if all non-null elements in the the given collection pass the condition --
+     *   checked in parallel if the size reaches the {@link ParallelThreshold}.
+     * 
+     * @param collection  the collection.
+     * @param condition   the condition.
+     * @return  {@code true} if there is a non-null element and all non-null elements pass the condition.
+     * 
+     * @param <OBJECT>     the type of the data in the list.
+     * @param <COLLECTION> the type of the collection.
+     */
+    public static <OBJECT, COLLECTION extends Collection<OBJECT>> boolean _hasAllPar(COLLECTION collection, Predicate<OBJECT> condition) {
+        if (collection == null)
+            return false;
+        if (!hasNonNull(collection))
+            return false;
+        return nonNullStream(collection).allMatch(condition);
+    }
+    
+    /**
+     * Check if at lease one non-null element in the the given array pass the condition --
+     *   checked in parallel if the length reaches the {@link ParallelThreshold}.
+     * 
+     * @param array      the array.
+     * @param condition  the condition.
+     * @return  {@code true} if some non-null elements pass the condition.
+     * 
+     * @param <OBJECT> the type of the data in the array.
+     */
+    public static <OBJECT> boolean _hasSomePar(OBJECT[] array, Predicate<OBJECT> condition) {
+        if (array == null)
+            return false;
+        return nonNullStream(array).anyMatch(condition);
+    }
+    /**
+     * Check if at lease one non-null element in the the given collection pass the condition --
+     *   checked in parallel if the size reaches the {@link ParallelThreshold}.
+     * 
+     * @param collection  the collection.
+     * @param condition   the condition.
+     * @return  {@code true} if some non-null elements pass the condition.
+     * 
+     * @param <OBJECT>     the type of the data in the list.
+     * @param <COLLECTION> the type of the collection.
+     */
+    public static <OBJECT, COLLECTION extends Collection<OBJECT>> boolean _hasSomePar(COLLECTION collection, Predicate<OBJECT> condition) {
+        if (collection == null)
+            return false;
+        return nonNullStream(collection).anyMatch(condition);
+    }
+    
+    /**
+     * Map each non-null element of the collection to a collection and flatmap them skipping null --
+     *   in parallel if the size reaches the {@link ParallelThreshold}.
+     * 
+     * @param collection  the collection.
+     * @param mapper      the mapper.
+     * @return  the stream of the non-null elements of the mapped collections.
+     * 
+     * @param <OBJECT>      the type of the data in the collection.
+     * @param <TARGET>      the type of the data in the mapped collections.
+     * @param <COLLECTION>  the type of the mapped collection.
+     */
+    public static <OBJECT, TARGET, COLLECTION extends Collection<TARGET>> Stream<TARGET> _flatMapPar$(
+            Collection<OBJECT> collection,
+            Function<OBJECT, COLLECTION> mapper) {
+        if (collection == null)
+            return empty();
+        return nonNullStream(collection)
+                .map(mapper)
+                .filter(Objects::nonNull)
+                .flatMap(Collection::stream)
+                .filter(Objects::nonNull);
+    }
+    
+    private static boolean hasNonNull(Object[] array) {
+        for (val each : array) {
+            if (each != null)
+                return true;
+        }
+        return false;
+    }
+    
+    private static boolean hasNonNull(Collection<?> collection) {
+        for (val each : collection) {
+            if (each != null)
+                return true;
+        }
+        return false;
+    }
+    
+    private static <OBJECT> Stream<OBJECT> nonNullStream(OBJECT[] array) {
+        val stream = stream(array);
+        val result = ParallelThreshold.isReachedBy(array.length) ? stream.parallel() : stream;
+        return result.filter(Objects::nonNull);
+    }
+    
+    private static <OBJECT> Stream<OBJECT> nonNullStream(Collection<OBJECT> collection) {
+        val result = ParallelThreshold.isReachedBy(collection.size()) ? collection.parallelStream() : collection.stream();
+        return result.filter(Objects::nonNull);
+    }
+    
     //== Supplier and Function ==
     
     /**
@@ -0,0 +1,87 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej;
+
+/**
+ * The size threshold from which the parallel {@code NullableJ} helpers (e.g. {@link NullableJ#_butOnlyPar$(Object[], java.util.function.Predicate)})
+ *   split the work on the fork-join pool -- smaller inputs are processed sequentially.
+ * The same threshold applies to {@link nullablej.nullable.NullableFunction#applyAllParallel(java.util.Collection)}
+ *   and its array variants.
+ * 
+ * The default is {@value #DEFAULT}. Change it with {@link #set(int)} or with the system property {@value #PROPERTY}.
+ * 
+ * @author NawaMan -- nawa@nawaman.net
+ */
+public final class ParallelThreshold {
+    
+    /** The system property to set the threshold at start up. */
+    public static final String PROPERTY = "nullablej.parallelThreshold";
+    
+    /** The default threshold. */
+    public static final int DEFAULT = 8192;
+    
+    private static volatile int threshold = initialThreshold();
+    
+    private ParallelThreshold() {
+    }
+    
+    private static int initialThreshold() {
+        return Math.max(1, Integer.getInteger(PROPERTY, DEFAULT));
+    }
+    
+    /**
+     * Returns the current threshold.
+     * 
+     * @return  the threshold.
+     */
+    public static int get() {
+        return threshold;
+    }
+    
+    /**
+     * Set the threshold.
+     * 
+     * @param newThreshold  the new threshold -- must be positive.
+     */
+    public static void set(int newThreshold) {
+        if (newThreshold <= 0)
+            throw new IllegalArgumentException("The threshold must be positive: " + newThreshold);
+        threshold = newThreshold;
+    }
+    
+    /** Set the threshold back to the initial value (from the system property or the default). */
+    public static void reset() {
+        threshold = initialThreshold();
+    }
+    
+    /**
+     * Check if an input of the given size should be processed in parallel.
+     * 
+     * @param size  the size.
+     * @return  {@code true} if the size reaches the threshold.
+     */
+    public static boolean isReachedBy(int size) {
+        return size >= threshold;
+    }
+    
+}
@@ -0,0 +1,207 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import lombok.val;
+
+/**
+ * A bounded cache of compiled regular expressions -- used by the {@code String} regex overloads of
+ *   {@link NullableJ#_matches(String, String)} and friends so the same regex is not compiled on every call.
+ * 
+ * A hit is a plain map lookup plus marking the pattern as recently used (only if not already marked).
+ * When the cache is full, a miss evicts with the CLOCK (second chance) policy -- an approximation of least-recently-used:
+ *   the marked patterns are unmarked and skipped once, the first unmarked one is evicted.
+ * 
+ * The shared cache holds {@value #DEFAULT_CAPACITY} patterns by default;
+ *   change that with the system property {@value #CAPACITY_PROPERTY}.
+ * 
+ * @author NawaMan -- nawa@nawaman.net
+ */
+public final class PatternCache {
+    
+    /** The system property for the capacity of the shared cache. */
+    public static final String CAPACITY_PROPERTY = "nullablej.patternCacheCapacity";
+    
+    /** The default capacity of the shared cache. */
+    public static final int DEFAULT_CAPACITY = 256;
+    
+    private static final PatternCache shared = new PatternCache(Math.max(1, Integer.getInteger(CAPACITY_PROPERTY, DEFAULT_CAPACITY)));
+    
+    private final int                                capacity;
+    private final Map<String, CachedEntry>           entries   = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<CachedEntry> clock     = new ConcurrentLinkedQueue<>();
+    private final LongAdder                          hits      = new LongAdder();
+    private final LongAdder                          misses    = new LongAdder();
+    private final LongAdder                          evictions = new LongAdder();
+    
+    /**
+     * Constructs a cache with the given capacity.
+     * 
+     * @param capacity  the maximum number of patterns to keep.
+     */
+    public PatternCache(int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("The capacity must be positive: " + capacity);
+        this.capacity = capacity;
+    }
+    
+    /**
+     * Returns the shared cache used by {@link NullableJ}.
+     * 
+     * @return  the shared cache.
+     */
+    public static PatternCache shared() {
+        return shared;
+    }
+    
+    /**
+     * Returns the compiled pattern of the regular expression -- compiled only if not already cached.
+     * 
+     * @param regex  the regular expression.
+     * @return  the pattern.
+     * @throws java.util.regex.PatternSyntaxException  if the regular expression is invalid.
+     */
+    public Pattern get(String regex) {
+        if (regex == null)
+            throw new NullPointerException("regex");
+        
+        val cached = entries.get(regex);
+        if (cached != null) {
+            if (!cached.referenced)
+                cached.referenced = true;
+            hits.increment();
+            return cached.pattern;
+        }
+        
+        // Compiling is pure so racing threads may both compile -- the first one put is kept.
+        misses.increment();
+        val entry    = new CachedEntry(Pattern.compile(regex));
+        val existing = entries.putIfAbsent(regex, entry);
+        if (existing != null)
+            return existing.pattern;
+        
+        clock.offer(entry);
+        evict();
+        return entry.pattern;
+    }
+    
+    private void evict() {
+        // Each entry is unmarked at most once per turn so two turns are enough (unless the hits keep marking).
+        int steps = 2 * entries.size() + 1;
+        while ((entries.size() > capacity) && (steps-- > 0)) {
+            val entry = clock.poll();
+            if (entry == null)
+                break;
+            
+            val regex = entry.pattern.pattern();
+            if (entries.get(regex) != entry)
+                continue;
+            
+            if (entry.referenced) {
+                entry.referenced = false;
+                clock.offer(entry);
+            } else if (entries.remove(regex, entry)) {
+                evictions.increment();
+            }
+        }
+    }
+    
+    /**
+     * Returns the maximum number of patterns kept.
+     * 
+     * @return  the capacity.
+     */
+    public int capacity() {
+        return capacity;
+    }
+    
+    /**
+     * Returns the number of patterns currently cached.
+     * 
+     * @return  the size.
+     */
+    public int size() {
+        return entries.size();
+    }
+    
+    /**
+     * Returns the number of lookups served from the cache.
+     * 
+     * @return  the hit count.
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+    
+    /**
+     * Returns the number of lookups that compiled the pattern.
+     * 
+     * @return  the miss count.
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+    
+    /**
+     * Returns the number of patterns evicted to keep the cache within the capacity.
+     * 
+     * @return  the eviction count.
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+    
+    /** Remove all the patterns and reset the counts. */
+    public void clear() {
+        entries.clear();
+        clock.clear();
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+    
+    @Override
+    public String toString() {
+        return "PatternCache[size=" + size() + ", capacity=" + capacity
+                + ", hits=" + hitCount() + ", misses=" + missCount() + ", evictions=" + evictionCount() + "]";
+    }
+    
+    private static final class CachedEntry {
+        
+        final Pattern pattern;
+        
+        /** Set by the hits; unset by the eviction -- racy by design as it is only a hint. */
+        boolean referenced;
+        
+        CachedEntry(Pattern pattern) {
+            this.pattern = pattern;
+        }
+    }
+    
+}
@@ -0,0 +1,185 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.collections;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import lombok.val;
+
+/**
+ * The common part of the nullable columns backed by a byte buffer.
+ * 
+ * The layout is the validity bitmap (as little-endian {@code long} words) followed by the values
+ *   (also little-endian) so a mapped file can be shared as-is between processes.
+ * 
+ * @author NawaMan -- nawa@nawaman.net
+ */
+abstract class BufferColumn {
+    
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+    
+    /** The buffer. */
+    protected final ByteBuffer buffer;
+    /** The given buffer -- kept as {@code slice()} does not keep the file mapping on Java 8. */
+    private final ByteBuffer source;
+    /** The number of elements. */
+    protected final int length;
+    /** The byte offset of the first value. */
+    protected final int valuesOffset;
+    /** The mask of the last validity word -- a wrapped buffer may have garbage bits beyond the length. */
+    private final long tailMask;
+    
+    BufferColumn(ByteBuffer buffer, int length, int valueSize) {
+        if (length < 0)
+            throw new IllegalArgumentException("Negative length: " + length);
+        
+        val required = sizeInBytes(length, valueSize);
+        val slice    = buffer.slice().order(BYTE_ORDER);
+        if (slice.capacity() < required)
+            throw new IllegalArgumentException("The buffer is too small: " + slice.capacity() + " < " + required);
+        
+        this.buffer       = slice;
+        this.source       = buffer;
+        this.length       = length;
+        this.valuesOffset = bitmapSize(length);
+        this.tailMask     = ValidityBitmap.tailMask(length);
+    }
+    
+    static int bitmapSize(int length) {
+        return ValidityBitmap.wordCount(length) * Long.BYTES;
+    }
+    
+    static int sizeInBytes(int length, int valueSize) {
+        val size = (long)bitmapSize(length) + (long)length * valueSize;
+        if (size > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Too many elements for one buffer: " + length);
+        return (int)size;
+    }
+    
+    static ByteBuffer allocateBuffer(int length, int valueSize) {
+        return ByteBuffer.allocateDirect(sizeInBytes(length, valueSize));
+    }
+    
+    static MappedByteBuffer mapBuffer(FileChannel channel, FileChannel.MapMode mode, long position, int length, int valueSize)
+            throws IOException {
+        return channel.map(mode, position, sizeInBytes(length, valueSize));
+    }
+    
+    /**
+     * Returns the number of elements.
+     * 
+     * @return  the length.
+     */
+    public final int length() {
+        return length;
+    }
+    
+    /**
+     * Check if the element at the index is null.
+     * 
+     * @param index  the index.
+     * @return  {@code true} if the element is null.
+     */
+    public final boolean isNull(int index) {
+        checkIndex(index);
+        return !isValid(index);
+    }
+    
+    /**
+     * Returns the number of the non-null elements.
+     * 
+     * @return  the count.
+     */
+    public final int nonNullCount() {
+        int count = 0;
+        val wordCount = wordCount();
+        for (int word = 0; word < wordCount; word++) {
+            count += Long.bitCount(validityWord(word));
+        }
+        return count;
+    }
+    
+    /**
+     * Returns the number of the null elements.
+     * 
+     * @return  the count.
+     */
+    public final int nullCount() {
+        return length - nonNullCount();
+    }
+    
+    /**
+     * Returns a view of the underlying buffer -- the bitmap followed by the values.
+     * 
+     * @return  the buffer.
+     */
+    public final ByteBuffer buffer() {
+        return buffer.duplicate().order(BYTE_ORDER);
+    }
+    
+    /**
+     * Force the changes to the storage if the buffer is memory-mapped.
+     */
+    public final void force() {
+        if (!(source instanceof MappedByteBuffer))
+            return;
+        
+        try {
+            ((MappedByteBuffer)source).force();
+        } catch (UnsupportedOperationException e) {
+            // Direct buffer not mapped to a file -- nothing to force.
+        }
+    }
+    
+    final boolean isValid(int index) {
+        val word = buffer.getLong((index >>> ValidityBitmap.WORD_SHIFT) * Long.BYTES);
+        return (word & (1L << (index & ValidityBitmap.WORD_MASK))) != 0;
+    }
+    
+    final void markValid(int index, boolean isValid) {
+        val offset = (index >>> ValidityBitmap.WORD_SHIFT) * Long.BYTES;
+        val bit    = 1L << (index & ValidityBitmap.WORD_MASK);
+        val word   = buffer.getLong(offset);
+        buffer.putLong(offset, isValid ? (word | bit) : (word & ~bit));
+    }
+    
+    /** Returns the validity word with the bits beyond the length cleared. */
+    final long validityWord(int word) {
+        val bits = buffer.getLong(word * Long.BYTES);
+        return (word == wordCount() - 1) ? (bits & tailMask) : bits;
+    }
+    
+    final int wordCount() {
+        return valuesOffset / Long.BYTES;
+    }
+    
+    final void checkIndex(int index) {
+        if ((index < 0) || (index >= length))
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+    }
+    
+}
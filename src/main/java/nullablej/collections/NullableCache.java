@@ -0,0 +1,387 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.collections;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import lombok.val;
+
+/**
+ * A bounded cache of values computed by a loader -- with the semantic of {@link Map#computeIfAbsent(Object, Function)}.
+ * 
+ * The cache keeps at most {@code maxSize} values and, if given, drops the values older than the time to live.
+ * When full, the cache evicts with the CLOCK (second chance) policy -- an approximation of least-recently-used:
+ *   a hit only marks the value as referenced and the eviction skips (and unmarks) the referenced values once.
+ * Each insert also drops the expired values found at the clock hand so they do not wait for the cache to be full.
+ * 
+ * Null is never cached: a null key is computed every time and a null result is not stored.
+ * Null values (such as the ones from {@link nullablej.nullvalue.NullValues#nullValueOf(Class)}) are regular values
+ *   and are cached.
+ * 
+ * Hits are lock-free. The loader runs outside of any lock and at most once at a time for the same key --
+ *   other threads asking for the same key wait for it and get its result (or its exception).
+ * The loader may use the cache for other keys but not for the key it is loading.
+ * 
+ * @param <KEY>    the key type.
+ * @param <VALUE>  the value type.
+ * 
+ * @author NawaMan -- nawa@nawaman.net
+ */
+public final class NullableCache<KEY, VALUE> implements Function<KEY, VALUE> {
+    
+    /** The number of nodes at the clock hand checked for expiry on each insert. */
+    private static final int EXPIRY_SWEEP = 2;
+    
+    private final Function<? super KEY, ? extends VALUE> loader;
+    private final int                                    maxSize;
+    private final long                                   timeToLiveNanos;
+    private final LongSupplier                           nanoClock;
+    
+    private final Map<KEY, Node<KEY, VALUE>>              entries   = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Node<KEY, VALUE>> clock     = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger                           clockSize = new AtomicInteger();
+    private final LongAdder                               hits      = new LongAdder();
+    private final LongAdder                               misses    = new LongAdder();
+    private final LongAdder                               evictions = new LongAdder();
+    
+    private NullableCache(Function<? super KEY, ? extends VALUE> loader, int maxSize, long timeToLiveNanos, LongSupplier nanoClock) {
+        if (loader == null)
+            throw new NullPointerException("loader");
+        if (maxSize <= 0)
+            throw new IllegalArgumentException("The max size must be positive: " + maxSize);
+        this.loader          = loader;
+        this.maxSize         = maxSize;
+        this.timeToLiveNanos = timeToLiveNanos;
+        this.nanoClock       = nanoClock;
+    }
+    
+    /**
+     * Create a cache keeping at most the given number of values.
+     * 
+     * @param loader   the loader to compute the value of a key.
+     * @param maxSize  the maximum number of values to keep.
+     * @return  the cache.
+     * 
+     * @param <KEY>    the key type.
+     * @param <VALUE>  the value type.
+     */
+    public static <KEY, VALUE> NullableCache<KEY, VALUE> of(Function<? super KEY, ? extends VALUE> loader, int maxSize) {
+        return new NullableCache<KEY, VALUE>(loader, maxSize, 0L, System::nanoTime);
+    }
+    
+    /**
+     * Create a cache keeping at most the given number of values each for at most the given time.
+     * 
+     * @param loader      the loader to compute the value of a key.
+     * @param maxSize     the maximum number of values to keep.
+     * @param timeToLive  the time a value is kept after it is computed.
+     * @return  the cache.
+     * 
+     * @param <KEY>    the key type.
+     * @param <VALUE>  the value type.
+     */
+    public static <KEY, VALUE> NullableCache<KEY, VALUE> of(Function<? super KEY, ? extends VALUE> loader, int maxSize, Duration timeToLive) {
+        return of(loader, maxSize, timeToLive, System::nanoTime);
+    }
+    
+    /** Create a cache with a time to live measured by the given clock (in nanoseconds) -- for testing. */
+    static <KEY, VALUE> NullableCache<KEY, VALUE> of(Function<? super KEY, ? extends VALUE> loader, int maxSize, Duration timeToLive,
+            LongSupplier nanoClock) {
+        if (timeToLive.isNegative() || timeToLive.isZero())
+            throw new IllegalArgumentException("The time to live must be positive: " + timeToLive);
+        if (nanoClock == null)
+            throw new NullPointerException("nanoClock");
+        return new NullableCache<KEY, VALUE>(loader, maxSize, timeToLive.toNanos(), nanoClock);
+    }
+    
+    /**
+     * Returns the value of the key -- computed by the loader only if it is not cached.
+     * 
+     * @param key  the key.
+     * @return  the value.
+     * @throws IllegalStateException  if the loader of the key asks for the same key.
+     */
+    public VALUE get(KEY key) {
+        if (key == null)
+            return loader.apply(null);
+        
+        val cached = entries.get(key);
+        if ((cached != null) && !isExpired(cached)) {
+            if (!cached.referenced)
+                cached.referenced = true;
+            hits.increment();
+            return cached.await();
+        }
+        return load(key);
+    }
+    
+    /**
+     * Returns the value of the key -- the same as {@link #get(Object)}.
+     * 
+     * @param key  the key.
+     * @return  the value.
+     */
+    @Override
+    public VALUE apply(KEY key) {
+        return get(key);
+    }
+    
+    /**
+     * Compute the value of the key with the loader without caching.
+     * 
+     * @param key  the key.
+     * @return  the value.
+     */
+    public VALUE compute(KEY key) {
+        return loader.apply(key);
+    }
+    
+    /**
+     * Remove the cached value of the key.
+     * 
+     * @param key  the key.
+     */
+    public void invalidate(KEY key) {
+        if (key != null)
+            entries.remove(key);
+    }
+    
+    /** Remove all the cached values and reset the counts. */
+    public void clear() {
+        entries.clear();
+        clock.clear();
+        clockSize.set(0);
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+    
+    /**
+     * Returns the maximum number of values kept.
+     * 
+     * @return  the max size.
+     */
+    public int maxSize() {
+        return maxSize;
+    }
+    
+    /**
+     * Returns the number of values currently cached (including the ones being loaded and the expired ones not yet removed).
+     * 
+     * @return  the size.
+     */
+    public int size() {
+        return entries.size();
+    }
+    
+    /**
+     * Returns the number of lookups served from the cache (including the ones waiting for another thread to load).
+     * 
+     * @return  the hit count.
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+    
+    /**
+     * Returns the number of lookups that ran the loader.
+     * 
+     * @return  the miss count.
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+    
+    /**
+     * Returns the number of values evicted to keep the cache within the max size.
+     * 
+     * @return  the eviction count.
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+    
+    private VALUE load(KEY key) {
+        val node = new Node<KEY, VALUE>(key);
+        while (true) {
+            val existing = entries.putIfAbsent(key, node);
+            if (existing == null)
+                break;
+            if (isExpired(existing)) {
+                entries.remove(key, existing);
+                continue;
+            }
+            hits.increment();
+            return existing.await();
+        }
+        
+        misses.increment();
+        final VALUE value;
+        try {
+            value = loader.apply(key);
+        } catch (Throwable exception) {
+            entries.remove(key, node);
+            node.fail(exception);
+            throw exception;
+        }
+        
+        if (value == null) {
+            entries.remove(key, node);
+            node.complete(null, 0L);
+            return null;
+        }
+        
+        node.complete(value, expiresAt());
+        offerClock(node);
+        sweep();
+        return value;
+    }
+    
+    private long expiresAt() {
+        return (timeToLiveNanos == 0L) ? 0L : (nanoClock.getAsLong() + timeToLiveNanos);
+    }
+    
+    private boolean isExpired(Node<KEY, VALUE> node) {
+        if (timeToLiveNanos == 0L)
+            return false;
+        val expiresAt = node.expiresAt;
+        return (expiresAt != 0L) && ((nanoClock.getAsLong() - expiresAt) >= 0L);
+    }
+    
+    /** Check if the node is no longer the cached one (invalidated, evicted or replaced) -- removing it if expired. */
+    private boolean isDropped(Node<KEY, VALUE> node) {
+        if (entries.get(node.key) != node)
+            return true;
+        return isExpired(node) && entries.remove(node.key, node);
+    }
+    
+    private Node<KEY, VALUE> pollClock() {
+        val node = clock.poll();
+        if (node != null)
+            clockSize.decrementAndGet();
+        return node;
+    }
+    
+    private void offerClock(Node<KEY, VALUE> node) {
+        clock.offer(node);
+        clockSize.incrementAndGet();
+    }
+    
+    private void sweep() {
+        // Drop the expired (or otherwise dropped) values at the hand.
+        for (int i = 0; i < EXPIRY_SWEEP; i++) {
+            val node = clock.peek();
+            if ((node == null) || !isDropped(node) || !clock.remove(node))
+                break;
+            clockSize.decrementAndGet();
+        }
+        
+        // Second chance: the referenced values are unmarked and moved to the back.
+        int steps = 2 * clockSize.get() + 1;
+        while ((entries.size() > maxSize) && (steps-- > 0)) {
+            val node = pollClock();
+            if (node == null)
+                break;
+            if (isDropped(node))
+                continue;
+            if (node.referenced) {
+                node.referenced = false;
+                offerClock(node);
+            } else if (entries.remove(node.key, node)) {
+                evictions.increment();
+            }
+        }
+        
+        // The invalidated values stay in the clock until the hand passes them --
+        //   compact it in one full turn (keeping the order) once they might outnumber the cached values.
+        val turn = clockSize.get();
+        if (turn > 2 * maxSize) {
+            for (int i = 0; i < turn; i++) {
+                val node = pollClock();
+                if (node == null)
+                    break;
+                if (!isDropped(node))
+                    offerClock(node);
+            }
+        }
+    }
+    
+    @Override
+    public String toString() {
+        return "NullableCache[size=" + size() + ", maxSize=" + maxSize
+                + ", hits=" + hitCount() + ", misses=" + missCount() + ", evictions=" + evictionCount() + "]";
+    }
+    
+    private static final class Node<KEY, VALUE> {
+        
+        final KEY                      key;
+        final CompletableFuture<VALUE> future = new CompletableFuture<>();
+        
+        /** The thread running the loader -- null once loaded. */
+        volatile Thread loadingThread = Thread.currentThread();
+        /** The time the value expires -- 0 for never (or not yet loaded). */
+        volatile long   expiresAt;
+        /** Set by the hits; unset by the eviction -- racy by design as it is only a hint. */
+        boolean         referenced;
+        
+        Node(KEY key) {
+            this.key = key;
+        }
+        
+        void complete(VALUE value, long expiresAt) {
+            this.expiresAt     = expiresAt;
+            this.loadingThread = null;
+            future.complete(value);
+        }
+        
+        void fail(Throwable exception) {
+            loadingThread = null;
+            future.completeExceptionally(exception);
+        }
+        
+        VALUE await() {
+            if (!future.isDone() && (loadingThread == Thread.currentThread()))
+                throw new IllegalStateException("Recursive load of the key: " + key);
+            try {
+                return future.join();
+            } catch (CompletionException exception) {
+                val cause = exception.getCause();
+                if (cause instanceof RuntimeException)
+                    throw (RuntimeException)cause;
+                if (cause instanceof Error)
+                    throw (Error)cause;
+                throw exception;
+            }
+        }
+    }
+    
+}
@@ -0,0 +1,390 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.collections;
+
+import static nullablej.collections.ValidityBitmap.ALL_SET;
+import static nullablej.collections.ValidityBitmap.WORD_SHIFT;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import lombok.val;
+import nullablej.nullable.NullableDouble;
+
+/**
+ * A fixed-length array of nullable {@code double} -- the values are kept in a primitive array with a validity bitmap.
+ * 
+ * This takes much less memory than {@code Double[]} and the loops over the values (e.g. {@link #sum()})
+ *   process the fully-valid bitmap words in tight loops over the primitive array.
+ * 
+ * @author NawaMan -- nawa@nawaman.net
+ */
+public final class NullableDoubleArray {
+    
+    private final double[] values;
+    private final long[] validity;
+    
+    /**
+     * Constructs an array of the given length with all the elements null.
+     * 
+     * @param length  the length.
+     */
+    public NullableDoubleArray(int length) {
+        this.values   = new double[length];
+        this.validity = ValidityBitmap.newBitmap(length);
+    }
+    
+    private NullableDoubleArray(double[] values, long[] validity) {
+        this.values   = values;
+        this.validity = validity;
+    }
+    
+    /**
+     * Create an array with all the given values (non-null).
+     * 
+     * @param values  the values.
+     * @return  the array.
+     */
+    public static NullableDoubleArray of(double ... values) {
+        val validity = ValidityBitmap.newBitmap(values.length);
+        ValidityBitmap.setAll(validity, values.length);
+        return new NullableDoubleArray(values.clone(), validity);
+    }
+    
+    /**
+     * Create an array from the boxed values -- null values become null elements.
+     * 
+     * @param values  the values.
+     * @return  the array.
+     */
+    public static NullableDoubleArray from(Double[] values) {
+        val array = new NullableDoubleArray(values.length);
+        for (int i = 0; i < values.length; i++) {
+            array.set(i, values[i]);
+        }
+        return array;
+    }
+    
+    /**
+     * Create an array from the boxed values -- null values become null elements.
+     * 
+     * @param values  the values.
+     * @return  the array.
+     */
+    public static NullableDoubleArray from(Collection<? extends Double> values) {
+        val array = new NullableDoubleArray(values.size());
+        int index = 0;
+        for (val value : values) {
+            array.set(index++, value);
+        }
+        return array;
+    }
+    
+    //== Access ==
+    
+    /**
+     * Returns the length.
+     * 
+     * @return  the length.
+     */
+    public int length() {
+        return values.length;
+    }
+    
+    /**
+     * Check if the element at the index is null.
+     * 
+     * @param index  the index.
+     * @return  {@code true} if the element is null.
+     */
+    public boolean isNull(int index) {
+        checkIndex(index);
+        return !ValidityBitmap.isSet(validity, index);
+    }
+    
+    /**
+     * Returns the element at the index as NullableDouble.
+     * 
+     * @param index  the index.
+     * @return  the element.
+     */
+    public NullableDouble get(int index) {
+        checkIndex(index);
+        return ValidityBitmap.isSet(validity, index) ? NullableDouble.of(values[index]) : NullableDouble.empty();
+    }
+    
+    /**
+     * Returns the element at the index or the fallback value if the element is null.
+     * 
+     * @param index          the index.
+     * @param fallbackValue  the fallback value.
+     * @return  the element or the fallback value.
+     */
+    public double orElse(int index, double fallbackValue) {
+        checkIndex(index);
+        return ValidityBitmap.isSet(validity, index) ? values[index] : fallbackValue;
+    }
+    
+    /**
+     * Returns the element at the index boxed or null.
+     * 
+     * @param index  the index.
+     * @return  the element or null.
+     */
+    public Double getBoxed(int index) {
+        checkIndex(index);
+        return ValidityBitmap.isSet(validity, index) ? values[index] : null;
+    }
+    
+    /**
+     * Set the element at the index.
+     * 
+     * @param index  the index.
+     * @param value  the value.
+     */
+    public void set(int index, double value) {
+        checkIndex(index);
+        values[index] = value;
+        ValidityBitmap.set(validity, index);
+    }
+    
+    /**
+     * Set the element at the index -- null value makes the element null.
+     * 
+     * @param index  the index.
+     * @param value  the value.
+     */
+    public void set(int index, Double value) {
+        if (value == null)
+            setNull(index);
+        else
+            set(index, value.doubleValue());
+    }
+    
+    /**
+     * Make the element at the index null.
+     * 
+     * @param index  the index.
+     */
+    public void setNull(int index) {
+        checkIndex(index);
+        values[index] = 0;
+        ValidityBitmap.clear(validity, index);
+    }
+    
+    //== Bulk ==
+    
+    /**
+     * Returns the values with the null elements replaced with the fallback value.
+     * 
+     * @param fallbackValue  the fallback value.
+     * @return  the values.
+     */
+    public double[] orElse(double fallbackValue) {
+        return orElse(fallbackValue, new double[values.length]);
+    }
+    
+    /**
+     * Fill the target array with the values with the null elements replaced with the fallback value.
+     * 
+     * @param fallbackValue  the fallback value.
+     * @param target         the target array -- must be at least as long as this array.
+     * @return  the target array.
+     */
+    public double[] orElse(double fallbackValue, double[] target) {
+        if (target.length < values.length)
+            throw new IllegalArgumentException("The target array is too short: " + target.length + " < " + values.length);
+        
+        System.arraycopy(values, 0, target, 0, values.length);
+        for (int word = 0; word < validity.length; word++) {
+            long missing = ~validity[word];
+            if (word == (validity.length - 1))
+                missing &= ValidityBitmap.tailMask(values.length);
+            while (missing != 0) {
+                target[(word << WORD_SHIFT) + Long.numberOfTrailingZeros(missing)] = fallbackValue;
+                missing &= missing - 1;
+            }
+        }
+        return target;
+    }
+    
+    /**
+     * Returns the number of the non-null elements.
+     * 
+     * @return  the count.
+     */
+    public int nonNullCount() {
+        return ValidityBitmap.count(validity);
+    }
+    
+    /**
+     * Returns the number of the null elements.
+     * 
+     * @return  the count.
+     */
+    public int nullCount() {
+        return values.length - nonNullCount();
+    }
+    
+    /**
+     * Returns the sum of the non-null elements.
+     * 
+     * @return  the sum.
+     */
+    public double sum() {
+        double sum = 0.0;
+        for (int word = 0; word < validity.length; word++) {
+            long bits = validity[word];
+            int  base = word << WORD_SHIFT;
+            if (bits == ALL_SET) {
+                for (int i = base; i < base + 64; i++) {
+                    sum += values[i];
+                }
+            } else {
+                while (bits != 0) {
+                    sum += values[base + Long.numberOfTrailingZeros(bits)];
+                    bits &= bits - 1;
+                }
+            }
+        }
+        return sum;
+    }
+    
+    /**
+     * Returns the minimum of the non-null elements -- empty if there is none.
+     * 
+     * @return  the minimum.
+     */
+    public NullableDouble min() {
+        boolean found = false;
+        double   min   = 0;
+        for (int word = 0; word < validity.length; word++) {
+            long bits = validity[word];
+            int  base = word << WORD_SHIFT;
+            while (bits != 0) {
+                val value = values[base + Long.numberOfTrailingZeros(bits)];
+                if (!found || (value < min)) {
+                    min   = value;
+                    found = true;
+                }
+                bits &= bits - 1;
+            }
+        }
+        return found ? NullableDouble.of(min) : NullableDouble.empty();
+    }
+    
+    /**
+     * Returns the maximum of the non-null elements -- empty if there is none.
+     * 
+     * @return  the maximum.
+     */
+    public NullableDouble max() {
+        boolean found = false;
+        double   max   = 0;
+        for (int word = 0; word < validity.length; word++) {
+            long bits = validity[word];
+            int  base = word << WORD_SHIFT;
+            while (bits != 0) {
+                val value = values[base + Long.numberOfTrailingZeros(bits)];
+                if (!found || (value > max)) {
+                    max   = value;
+                    found = true;
+                }
+                bits &= bits - 1;
+            }
+        }
+        return found ? NullableDouble.of(max) : NullableDouble.empty();
+    }
+    
+    //== Conversion ==
+    
+    /**
+     * Returns the boxed values -- null for the null elements.
+     * 
+     * @return  the boxed values.
+     */
+    public Double[] toBoxedArray() {
+        val array = new Double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            array[i] = ValidityBitmap.isSet(validity, i) ? values[i] : null;
+        }
+        return array;
+    }
+    
+    /**
+     * Returns the list of the boxed values -- null for the null elements.
+     * 
+     * @return  the list.
+     */
+    public List<Double> toList() {
+        val list = new ArrayList<Double>(values.length);
+        for (int i = 0; i < values.length; i++) {
+            list.add(ValidityBitmap.isSet(validity, i) ? values[i] : null);
+        }
+        return list;
+    }
+    
+    //== Internal ==
+    
+    private void checkIndex(int index) {
+        if ((index < 0) || (index >= values.length))
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + values.length);
+    }
+    
+    //== Object methods ==
+    
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < values.length; i++) {
+            hash = 31 * hash + (ValidityBitmap.isSet(validity, i) ? Double.hashCode(values[i]) : 0);
+        }
+        return hash;
+    }
+    
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (!(obj instanceof NullableDoubleArray))
+            return false;
+        
+        val other = (NullableDoubleArray)obj;
+        if ((values.length != other.values.length) || !Arrays.equals(validity, other.validity))
+            return false;
+        
+        for (int i = 0; i < values.length; i++) {
+            if (ValidityBitmap.isSet(validity, i) && (Double.doubleToLongBits(values[i]) != Double.doubleToLongBits(other.values[i])))
+                return false;
+        }
+        return true;
+    }
+    
+    @Override
+    public String toString() {
+        return "NullableDoubleArray" + toList();
+    }
+    
+}
@@ -0,0 +1,347 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.collections;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+import java.util.function.ObjIntConsumer;
+import java.util.stream.Stream;
+
+import lombok.val;
+import nullablej.nullable.Nullable;
+
+/**
+ * A list that stores the non-null values densely with a presence bitmap (one bit per element).
+ * 
+ * The null elements take only one bit each, so it is compact for data with many missing values.
+ * A rank directory (the number of non-null values before each bitmap word) makes {@link #get(int)} O(1).
+ * 
+ * Elements can be appended ({@link #add(Object)}) and replaced ({@link #set(int, Object)}).
+ * Replacing a null with a non-null value (or the other way around) shifts the dense values so it is O(n).
+ * Inserting and removing in the middle are not supported.
+ * 
+ * @param <TYPE>  the type of the elements.
+ * 
+ * @author NawaMan -- nawa@nawaman.net
+ */
+public final class NullableList<TYPE> extends AbstractList<TYPE> implements RandomAccess {
+    
+    private static final int WORD_SHIFT = 6;
+    private static final int WORD_MASK  = 63;
+    
+    private long[]   words;
+    private int[]    ranks;
+    private Object[] values;
+    private int      size;
+    private int      valueCount;
+    
+    /** Constructs an empty list. */
+    public NullableList() {
+        this(16);
+    }
+    
+    /**
+     * Constructs an empty list with the initial capacity.
+     * 
+     * @param initialCapacity  the initial capacity.
+     */
+    public NullableList(int initialCapacity) {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Negative capacity: " + initialCapacity);
+        
+        val wordCount = Math.max(1, wordCount(initialCapacity));
+        this.words  = new long[wordCount];
+        this.ranks  = new int[wordCount];
+        this.values = new Object[Math.max(1, initialCapacity)];
+    }
+    
+    /**
+     * Create a list of the given elements.
+     * 
+     * @param elements  the elements.
+     * @return  the list.
+     * 
+     * @param <TYPE>  the type of the elements.
+     */
+    @SafeVarargs
+    public static <TYPE> NullableList<TYPE> of(TYPE ... elements) {
+        val list = new NullableList<TYPE>(elements.length);
+        for (val element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+    
+    /**
+     * Create a list of the elements of the given collection.
+     * 
+     * @param elements  the elements.
+     * @return  the list.
+     * 
+     * @param <TYPE>  the type of the elements.
+     */
+    public static <TYPE> NullableList<TYPE> from(Collection<? extends TYPE> elements) {
+        val list = new NullableList<TYPE>(elements.size());
+        for (val element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+    
+    //== List ==
+    
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Override
+    public TYPE get(int index) {
+        checkIndex(index);
+        val word = index >>> WORD_SHIFT;
+        val bit  = 1L << (index & WORD_MASK);
+        val bits = words[word];
+        if ((bits & bit) == 0)
+            return null;
+        
+        return (TYPE)values[ranks[word] + Long.bitCount(bits & (bit - 1))];
+    }
+    
+    @Override
+    public boolean add(TYPE element) {
+        val index = size;
+        val word  = index >>> WORD_SHIFT;
+        if (word >= words.length) {
+            val newLength = Math.max(words.length * 2, word + 1);
+            words = Arrays.copyOf(words, newLength);
+            ranks = Arrays.copyOf(ranks, newLength);
+        }
+        if ((index & WORD_MASK) == 0)
+            ranks[word] = valueCount;
+        
+        if (element != null) {
+            if (valueCount == values.length)
+                values = Arrays.copyOf(values, Math.max(values.length * 2, 1));
+            
+            values[valueCount++] = element;
+            words[word] |= 1L << (index & WORD_MASK);
+        }
+        size++;
+        modCount++;
+        return true;
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Override
+    public TYPE set(int index, TYPE element) {
+        checkIndex(index);
+        val word     = index >>> WORD_SHIFT;
+        val bit      = 1L << (index & WORD_MASK);
+        val bits     = words[word];
+        val position = ranks[word] + Long.bitCount(bits & (bit - 1));
+        val wasSet   = (bits & bit) != 0;
+        
+        if (wasSet && (element != null)) {
+            val old = (TYPE)values[position];
+            values[position] = element;
+            return old;
+        }
+        if (!wasSet && (element == null))
+            return null;
+        
+        TYPE old = null;
+        if (wasSet) {
+            old = (TYPE)values[position];
+            System.arraycopy(values, position + 1, values, position, valueCount - position - 1);
+            values[--valueCount] = null;
+            words[word] = bits & ~bit;
+            adjustRanks(word + 1, -1);
+        } else {
+            if (valueCount == values.length)
+                values = Arrays.copyOf(values, Math.max(values.length * 2, 1));
+            
+            System.arraycopy(values, position, values, position + 1, valueCount - position);
+            values[position] = element;
+            valueCount++;
+            words[word] = bits | bit;
+            adjustRanks(word + 1, 1);
+        }
+        modCount++;
+        return old;
+    }
+    
+    @Override
+    public void clear() {
+        Arrays.fill(words, 0L);
+        Arrays.fill(values, 0, valueCount, null);
+        size       = 0;
+        valueCount = 0;
+        modCount++;
+    }
+    
+    //== Nullable ==
+    
+    /**
+     * Returns the element at the index as Nullable -- no object is created for null element.
+     * 
+     * @param index  the index.
+     * @return  the nullable of the element.
+     */
+    public Nullable<TYPE> getNullable(int index) {
+        return Nullable.of(get(index));
+    }
+    
+    /**
+     * Check if the element at the index is null.
+     * 
+     * @param index  the index.
+     * @return  {@code true} if the element is null.
+     */
+    public boolean isNull(int index) {
+        checkIndex(index);
+        return (words[index >>> WORD_SHIFT] & (1L << (index & WORD_MASK))) == 0;
+    }
+    
+    /**
+     * Returns the number of non-null elements.
+     * 
+     * @return  the count.
+     */
+    public int nonNullCount() {
+        return valueCount;
+    }
+    
+    /**
+     * Returns the number of null elements.
+     * 
+     * @return  the count.
+     */
+    public int nullCount() {
+        return size - valueCount;
+    }
+    
+    /**
+     * Returns the number of non-null elements in the range.
+     * 
+     * @param fromIndex  the from index (inclusive).
+     * @param toIndex    the to index (exclusive).
+     * @return  the count.
+     */
+    public int nonNullCount(int fromIndex, int toIndex) {
+        if ((fromIndex < 0) || (toIndex > size) || (fromIndex > toIndex))
+            throw new IndexOutOfBoundsException("Range [" + fromIndex + ", " + toIndex + ") of size: " + size);
+        
+        return rank(toIndex) - rank(fromIndex);
+    }
+    
+    /**
+     * Returns the number of null elements in the range.
+     * 
+     * @param fromIndex  the from index (inclusive).
+     * @param toIndex    the to index (exclusive).
+     * @return  the count.
+     */
+    public int nullCount(int fromIndex, int toIndex) {
+        return (toIndex - fromIndex) - nonNullCount(fromIndex, toIndex);
+    }
+    
+    /**
+     * Pass each non-null element with its index to the action -- the bitmap words with no element are skipped.
+     * 
+     * @param action  the action.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachNonNull(ObjIntConsumer<? super TYPE> action) {
+        int position  = 0;
+        val wordCount = wordCount(size);
+        for (int word = 0; word < wordCount; word++) {
+            long bits = words[word];
+            while (bits != 0) {
+                val index = (word << WORD_SHIFT) + Long.numberOfTrailingZeros(bits);
+                action.accept((TYPE)values[position++], index);
+                bits &= bits - 1;
+            }
+        }
+    }
+    
+    /**
+     * Returns the indexes of the non-null elements.
+     * 
+     * @return  the indexes.
+     */
+    public int[] nonNullIndexes() {
+        val indexes   = new int[valueCount];
+        int position  = 0;
+        val wordCount = wordCount(size);
+        for (int word = 0; word < wordCount; word++) {
+            long bits = words[word];
+            while (bits != 0) {
+                indexes[position++] = (word << WORD_SHIFT) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        return indexes;
+    }
+    
+    /**
+     * Returns the stream of the non-null elements (in order).
+     * 
+     * @return  the stream.
+     */
+    @SuppressWarnings("unchecked")
+    public Stream<TYPE> nonNullStream() {
+        return (Stream<TYPE>)Arrays.stream(values, 0, valueCount);
+    }
+    
+    //== Internal ==
+    
+    private static int wordCount(int bitCount) {
+        return (bitCount + WORD_MASK) >>> WORD_SHIFT;
+    }
+    
+    /** Returns the number of non-null elements before the index. */
+    private int rank(int index) {
+        val word = index >>> WORD_SHIFT;
+        if (word >= wordCount(size))
+            return valueCount;
+        
+        val mask = (1L << (index & WORD_MASK)) - 1;
+        return ranks[word] + Long.bitCount(words[word] & mask);
+    }
+    
+    private void adjustRanks(int fromWord, int delta) {
+        val wordCount = wordCount(size);
+        for (int word = fromWord; word < wordCount; word++) {
+            ranks[word] += delta;
+        }
+    }
+    
+    private void checkIndex(int index) {
+        if ((index < 0) || (index >= size))
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+    
+}
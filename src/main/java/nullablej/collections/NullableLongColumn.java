@@ -0,0 +1,267 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.collections;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import lombok.val;
+import nullablej.nullable.NullableLong;
+
+/**
+ * A fixed-length column of nullable {@code long} stored in a byte buffer -- typically off-heap
+ *   (a direct buffer) or in a memory-mapped file.
+ * 
+ * The buffer holds the validity bitmap followed by the values, both little-endian,
+ *   so the same file can be mapped by other processes without copying.
+ * A column lives in one buffer so its size is limited to 2GB; split larger data into multiple columns.
+ * 
+ * Like the buffer it uses, this column is not thread-safe for writing.
+ * 
+ * @author NawaMan -- nawa@nawaman.net
+ */
+public final class NullableLongColumn extends BufferColumn {
+    
+    /** The number of bytes of each value. */
+    public static final int VALUE_SIZE = Long.BYTES;
+    
+    private NullableLongColumn(ByteBuffer buffer, int length) {
+        super(buffer, length, VALUE_SIZE);
+    }
+    
+    /**
+     * Returns the number of bytes needed for a column of the given length.
+     * 
+     * @param length  the length.
+     * @return  the number of bytes.
+     */
+    public static int sizeInBytes(int length) {
+        return BufferColumn.sizeInBytes(length, VALUE_SIZE);
+    }
+    
+    /**
+     * Create a column in a new direct buffer -- all the elements are null.
+     * 
+     * @param length  the length.
+     * @return  the column.
+     */
+    public static NullableLongColumn allocate(int length) {
+        return new NullableLongColumn(allocateBuffer(length, VALUE_SIZE), length);
+    }
+    
+    /**
+     * Create a column on the given buffer starting from its current position.
+     * 
+     * The buffer must have at least {@link #sizeInBytes(int)} bytes remaining.
+     * 
+     * @param buffer  the buffer.
+     * @param length  the length.
+     * @return  the column.
+     */
+    public static NullableLongColumn wrap(ByteBuffer buffer, int length) {
+        return new NullableLongColumn(buffer, length);
+    }
+    
+    /**
+     * Create a column on a memory-mapped region of the file channel.
+     * 
+     * Mapping a new region in the read-write mode extends the file with zeros -- all the elements are null.
+     * 
+     * @param channel   the file channel.
+     * @param mode      the map mode.
+     * @param position  the position of the region in the file.
+     * @param length    the length.
+     * @return  the column.
+     * @throws IOException  if the mapping fails.
+     */
+    public static NullableLongColumn map(FileChannel channel, FileChannel.MapMode mode, long position, int length)
+            throws IOException {
+        return new NullableLongColumn(mapBuffer(channel, mode, position, length, VALUE_SIZE), length);
+    }
+    
+    //== Access ==
+    
+    /**
+     * Returns the element at the index as NullableLong.
+     * 
+     * @param index  the index.
+     * @return  the element.
+     */
+    public NullableLong get(int index) {
+        checkIndex(index);
+        return isValid(index) ? NullableLong.of(valueAt(index)) : NullableLong.empty();
+    }
+    
+    /**
+     * Returns the element at the index or the fallback value if the element is null.
+     * 
+     * @param index          the index.
+     * @param fallbackValue  the fallback value.
+     * @return  the element or the fallback value.
+     */
+    public long orElse(int index, long fallbackValue) {
+        checkIndex(index);
+        return isValid(index) ? valueAt(index) : fallbackValue;
+    }
+    
+    /**
+     * Returns the element at the index boxed or null.
+     * 
+     * @param index  the index.
+     * @return  the element or null.
+     */
+    public Long getBoxed(int index) {
+        checkIndex(index);
+        return isValid(index) ? valueAt(index) : null;
+    }
+    
+    /**
+     * Set the element at the index.
+     * 
+     * @param index  the index.
+     * @param value  the value.
+     */
+    public void set(int index, long value) {
+        checkIndex(index);
+        buffer.putLong(valuesOffset + index * VALUE_SIZE, value);
+        markValid(index, true);
+    }
+    
+    /**
+     * Set the element at the index -- null value makes the element null.
+     * 
+     * @param index  the index.
+     * @param value  the value.
+     */
+    public void set(int index, Long value) {
+        if (value == null)
+            setNull(index);
+        else
+            set(index, value.longValue());
+    }
+    
+    /**
+     * Make the element at the index null.
+     * 
+     * @param index  the index.
+     */
+    public void setNull(int index) {
+        checkIndex(index);
+        buffer.putLong(valuesOffset + index * VALUE_SIZE, 0);
+        markValid(index, false);
+    }
+    
+    //== Bulk ==
+    
+    /**
+     * Returns the sum of the non-null elements.
+     * 
+     * @return  the sum.
+     */
+    public long sum() {
+        long sum = 0L;
+        val wordCount = wordCount();
+        for (int word = 0; word < wordCount; word++) {
+            long bits = validityWord(word);
+            int  base = word << ValidityBitmap.WORD_SHIFT;
+            while (bits != 0) {
+                sum += valueAt(base + Long.numberOfTrailingZeros(bits));
+                bits &= bits - 1;
+            }
+        }
+        return sum;
+    }
+    
+    /**
+     * Returns the minimum of the non-null elements -- empty if there is none.
+     * 
+     * @return  the minimum.
+     */
+    public NullableLong min() {
+        boolean found = false;
+        long   min   = 0;
+        val wordCount = wordCount();
+        for (int word = 0; word < wordCount; word++) {
+            long bits = validityWord(word);
+            int  base = word << ValidityBitmap.WORD_SHIFT;
+            while (bits != 0) {
+                val value = valueAt(base + Long.numberOfTrailingZeros(bits));
+                if (!found || (value < min)) {
+                    min   = value;
+                    found = true;
+                }
+                bits &= bits - 1;
+            }
+        }
+        return found ? NullableLong.of(min) : NullableLong.empty();
+    }
+    
+    /**
+     * Returns the maximum of the non-null elements -- empty if there is none.
+     * 
+     * @return  the maximum.
+     */
+    public NullableLong max() {
+        boolean found = false;
+        long   max   = 0;
+        val wordCount = wordCount();
+        for (int word = 0; word < wordCount; word++) {
+            long bits = validityWord(word);
+            int  base = word << ValidityBitmap.WORD_SHIFT;
+            while (bits != 0) {
+                val value = valueAt(base + Long.numberOfTrailingZeros(bits));
+                if (!found || (value > max)) {
+                    max   = value;
+                    found = true;
+                }
+                bits &= bits - 1;
+            }
+        }
+        return found ? NullableLong.of(max) : NullableLong.empty();
+    }
+    
+    /**
+     * Copy the column to an on-heap array.
+     * 
+     * @return  the array.
+     */
+    public NullableLongArray toArray() {
+        val array = new NullableLongArray(length);
+        for (int i = 0; i < length; i++) {
+            if (isValid(i))
+                array.set(i, valueAt(i));
+        }
+        return array;
+    }
+    
+    private long valueAt(int index) {
+        return buffer.getLong(valuesOffset + index * VALUE_SIZE);
+    }
+    
+    @Override
+    public String toString() {
+        return "NullableLongColumn" + toArray().toList();
+    }
+    
+}
@@ -0,0 +1,86 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.collections;
+
+import java.util.Arrays;
+
+/**
+ * Operations on validity bitmaps -- one bit per element packed in {@code long} words, set for non-null elements.
+ * 
+ * @author NawaMan -- nawa@nawaman.net
+ */
+final class ValidityBitmap {
+    
+    static final int  WORD_SHIFT = 6;
+    static final int  WORD_MASK  = 63;
+    static final long ALL_SET    = -1L;
+    
+    private ValidityBitmap() {
+    }
+    
+    static long[] newBitmap(int length) {
+        return new long[wordCount(length)];
+    }
+    
+    static int wordCount(int length) {
+        return (length + WORD_MASK) >>> WORD_SHIFT;
+    }
+    
+    static boolean isSet(long[] bitmap, int index) {
+        return (bitmap[index >>> WORD_SHIFT] & (1L << (index & WORD_MASK))) != 0;
+    }
+    
+    static void set(long[] bitmap, int index) {
+        bitmap[index >>> WORD_SHIFT] |= (1L << (index & WORD_MASK));
+    }
+    
+    static void clear(long[] bitmap, int index) {
+        bitmap[index >>> WORD_SHIFT] &= ~(1L << (index & WORD_MASK));
+    }
+    
+    static void setAll(long[] bitmap, int length) {
+        Arrays.fill(bitmap, ALL_SET);
+        trim(bitmap, length);
+    }
+    
+    /** The mask of the bits within the length in the last word. */
+    static long tailMask(int length) {
+        int tail = length & WORD_MASK;
+        return (tail == 0) ? ALL_SET : ((1L << tail) - 1);
+    }
+    
+    /** Clear the bits beyond the length (in the last word). */
+    static void trim(long[] bitmap, int length) {
+        if (bitmap.length != 0)
+            bitmap[bitmap.length - 1] &= tailMask(length);
+    }
+    
+    static int count(long[] bitmap) {
+        int count = 0;
+        for (long word : bitmap) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+    
+}
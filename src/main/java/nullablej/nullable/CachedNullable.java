@@ -0,0 +1,95 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.nullable;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import lombok.val;
+
+/**
+ * A live nullable that remembers the value (including null) from the supplier for a period of time.
+ * 
+ * The value is published through a volatile field without locking --
+ *   threads racing on an expired value may each run the supplier and the last one wins.
+ * 
+ * @param <TYPE>  the data type of the value wrapped by this Nullable.
+ * 
+ * @author NawaMan -- nawa@nawaman.net
+ */
+final class CachedNullable<TYPE> implements LiveNullable<TYPE> {
+    
+    /** The time-to-live of a value that never expires -- longer than the nano time can measure. */
+    static final long NEVER_EXPIRE = Long.MAX_VALUE;
+    
+    /** The value with its expiry time (in {@link System#nanoTime()}). */
+    private static final class Entry<TYPE> {
+        final TYPE value;
+        final long expiresAt;
+        Entry(TYPE value, long expiresAt) {
+            this.value     = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+    
+    private final Supplier<? extends TYPE> supplier;
+    private final long                     ttlNanos;
+    
+    private volatile Entry<TYPE> entry = null;
+    
+    CachedNullable(Supplier<? extends TYPE> supplier, long ttlNanos) {
+        this.supplier = supplier;
+        this.ttlNanos = ttlNanos;
+    }
+    
+    /** Returns the time-to-live in nanoseconds -- {@link #NEVER_EXPIRE} if it is too long for the nano time. */
+    static long toTtlNanos(Duration timeToLive) {
+        try {
+            return timeToLive.toNanos();
+        } catch (ArithmeticException e) {
+            return NEVER_EXPIRE;
+        }
+    }
+    
+    @Override
+    public TYPE get() {
+        val theEntry = entry;
+        if ((theEntry != null) && (ttlNanos == NEVER_EXPIRE))
+            return theEntry.value;
+        
+        val now = System.nanoTime();
+        if ((theEntry != null) && ((now - theEntry.expiresAt) < 0))
+            return theEntry.value;
+        
+        val value = LiveNullables.valueOf(supplier);
+        entry = new Entry<TYPE>(value, now + ttlNanos);
+        return value;
+    }
+    
+    @Override
+    public String toString() {
+        val theEntry = entry;
+        return "LiveNullable.cached(" + ((theEntry != null) ? theEntry.value : "...") + ")";
+    }
+    
+}
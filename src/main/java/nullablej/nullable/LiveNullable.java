@@ -22,6 +22,7 @@
 
 package nullablej.nullable;
 
+import java.time.Duration;
 import java.util.function.Supplier;
 
 /**
@@ -42,13 +43,42 @@ public interface LiveNullable<TYPE> extends Nullable<TYPE> {
      * @param <TYPE>  the data type.
      */
     public static <TYPE> LiveNullable<TYPE> from(Supplier<? extends TYPE> theSupplier) {
-        return ()-> {
-            try {
-                return theSupplier.get();
-            } catch (NullPointerException e) {
-                return null;
-            }
-        };
+        return ()-> LiveNullables.valueOf(theSupplier);
+    }
+    
+    /**
+     * Returns the LiveNullable that gets the value from the given supplier once and remembers it.
+     * 
+     * This is useful when the supplier is costly as the methods of Nullable might call {@code get()} many times.
+     * 
+     * @param theSupplier  the supplier of the value.
+     * @return  the Nullable of the value.
+     * 
+     * @param <TYPE>  the data type.
+     */
+    public static <TYPE> LiveNullable<TYPE> memoized(Supplier<? extends TYPE> theSupplier) {
+        if (theSupplier == null)
+            throw new NullPointerException("theSupplier");
+        
+        return new MemoizedNullable<TYPE>(theSupplier);
+    }
+    
+    /**
+     * Returns the LiveNullable that gets the value from the given supplier and remembers it for the given time-to-live.
+     * 
+     * @param theSupplier  the supplier of the value.
+     * @param timeToLive   the duration the value is remembered -- too long to be measured in nanoseconds means forever.
+     * @return  the Nullable of the value.
+     * 
+     * @param <TYPE>  the data type.
+     */
+    public static <TYPE> LiveNullable<TYPE> cached(Supplier<? extends TYPE> theSupplier, Duration timeToLive) {
+        if (theSupplier == null)
+            throw new NullPointerException("theSupplier");
+        if (timeToLive.isNegative())
+            throw new IllegalArgumentException("The time-to-live must not be negative: " + timeToLive);
+        
+        return new CachedNullable<TYPE>(theSupplier, CachedNullable.toTtlNanos(timeToLive));
     }
     
 }
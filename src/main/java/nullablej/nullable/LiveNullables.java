@@ -0,0 +1,54 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.nullable;
+
+import java.util.function.Supplier;
+
+/**
+ * Shared internal behaviour of the live nullables.
+ * 
+ * @author NawaMan -- nawa@nawaman.net
+ */
+final class LiveNullables {
+    
+    private LiveNullables() {
+    }
+    
+    /**
+     * Returns the value from the supplier or null if the supplier throws {@link NullPointerException}.
+     * 
+     * @param supplier  the supplier.
+     * @return  the value.
+     * 
+     * @param <TYPE>  the data type.
+     */
+    static <TYPE> TYPE valueOf(Supplier<? extends TYPE> supplier) {
+        try {
+            return supplier.get();
+        } catch (NullPointerException e) {
+            NullPointerFallbacks.record(supplier);
+            return null;
+        }
+    }
+    
+}
@@ -0,0 +1,82 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.nullable;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Supplier;
+
+import lombok.val;
+
+/**
+ * A live nullable that runs the supplier only once and remembers the value (including null).
+ * 
+ * The value is published through a volatile field without locking --
+ *   threads racing on the very first {@code get()} may each run the supplier but only one value is kept.
+ * 
+ * @param <TYPE>  the data type of the value wrapped by this Nullable.
+ * 
+ * @author NawaMan -- nawa@nawaman.net
+ */
+final class MemoizedNullable<TYPE> implements LiveNullable<TYPE> {
+    
+    /** Holder so null value can be remembered. */
+    private static final class Holder<TYPE> {
+        final TYPE value;
+        Holder(TYPE value) {
+            this.value = value;
+        }
+    }
+    
+    private final Supplier<? extends TYPE> supplier;
+    
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<MemoizedNullable, Holder> holderUpdater
+            = AtomicReferenceFieldUpdater.newUpdater(MemoizedNullable.class, Holder.class, "holder");
+    
+    private volatile Holder<TYPE> holder = null;
+    
+    MemoizedNullable(Supplier<? extends TYPE> supplier) {
+        this.supplier = supplier;
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Override
+    public TYPE get() {
+        val theHolder = holder;
+        if (theHolder != null)
+            return theHolder.value;
+        
+        val newHolder = new Holder<TYPE>(LiveNullables.valueOf(supplier));
+        if (holderUpdater.compareAndSet(this, null, newHolder))
+            return newHolder.value;
+        
+        return holder.value;
+    }
+    
+    @Override
+    public String toString() {
+        val theHolder = holder;
+        return "LiveNullable.memoized(" + ((theHolder != null) ? theHolder.value : "...") + ")";
+    }
+    
+}
@@ -0,0 +1,122 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.nullable;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import lombok.val;
+
+/**
+ * Counters of how often {@link NullPointerException} is caught as the null-fallback by
+ *   {@link Nullable#from(Supplier)}, {@link Nullable#nullable(Supplier)} and {@link LiveNullable#from(Supplier)}.
+ * 
+ * The counts are kept per call site -- the class of the supplier (a lambda class is specific to where it is written).
+ * The call sites with the highest counts are the ones worth rewriting with {@link NullablePath}.
+ * 
+ * The tracking is disabled by default.
+ * Enable it with {@link #enable()} or with the system property {@value #ENABLED_PROPERTY} set to {@code true}.
+ * 
+ * @author NawaMan -- nawa@nawaman.net
+ */
+public final class NullPointerFallbacks {
+    
+    /** The system property to enable the tracking at start up. */
+    public static final String ENABLED_PROPERTY = "nullablej.trackNullPointerFallbacks";
+    
+    private static volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+    
+    private static final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    
+    private NullPointerFallbacks() {
+    }
+    
+    /** Enable the tracking. */
+    public static void enable() {
+        enabled = true;
+    }
+    
+    /** Disable the tracking -- the counts so far are kept. */
+    public static void disable() {
+        enabled = false;
+    }
+    
+    /**
+     * Check if the tracking is enabled.
+     * 
+     * @return  {@code true} if the tracking is enabled.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+    
+    /** Clear all the counts. */
+    public static void reset() {
+        counters.clear();
+    }
+    
+    /**
+     * Returns the snapshot of the counts -- the supplier class names to the count from the highest count.
+     * 
+     * @return  the snapshot.
+     */
+    public static Map<String, Long> snapshot() {
+        val entries = new ArrayList<Map.Entry<String, Long>>();
+        counters.forEach((callSite, counter) -> entries.add(new SimpleEntry<>(callSite, counter.sum())));
+        entries.sort((a, b) -> Long.compare(b.getValue(), a.getValue()));
+        
+        val snapshot = new LinkedHashMap<String, Long>();
+        entries.forEach(entry -> snapshot.put(entry.getKey(), entry.getValue()));
+        return Collections.unmodifiableMap(snapshot);
+    }
+    
+    /**
+     * Returns the count of the given call site.
+     * 
+     * @param supplierClass  the class of the supplier.
+     * @return  the count.
+     */
+    public static long countOf(Class<?> supplierClass) {
+        val counter = counters.get(supplierClass.getName());
+        return (counter != null) ? counter.sum() : 0L;
+    }
+    
+    /**
+     * Record that the null-fallback was taken for the supplier -- if the tracking is enabled.
+     * 
+     * @param supplier  the supplier that threw {@link NullPointerException}.
+     */
+    static void record(Supplier<?> supplier) {
+        if (!enabled || (supplier == null))
+            return;
+        
+        counters.computeIfAbsent(supplier.getClass().getName(), callSite -> new LongAdder()).increment();
+    }
+    
+}
@@ -27,6 +27,9 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 
 import lombok.val;
@@ -75,6 +78,9 @@ public interface Nullable<TYPE> extends Supplier<TYPE>, IAsNullable<TYPE> {
     /**
      * Returns the Nullable value from the value of the given supplier.
      * 
+     * The supplier is run and {@link NullPointerException} is caught which is costly when the value is often null.
+     * For a chain of getters, use {@link NullablePath} instead.
+     * 
      * @param theSupplier  the supplier of the value.
      * @return  the Nullable of the value.
      * 
@@ -84,6 +90,7 @@ public interface Nullable<TYPE> extends Supplier<TYPE>, IAsNullable<TYPE> {
         try {
             return new NullableImpl<TYPE>(theSupplier.get());
         } catch (NullPointerException e) {
+            NullPointerFallbacks.record(theSupplier);
             return empty();
         }
     }
@@ -106,6 +113,9 @@ public interface Nullable<TYPE> extends Supplier<TYPE>, IAsNullable<TYPE> {
     /**
      * Returns the Nullable value from the value of the given supplier.
      * 
+     * The supplier is run and {@link NullPointerException} is caught which is costly when the value is often null.
+     * For a chain of getters, use {@link NullablePath} instead.
+     * 
      * @param theSupplier  the supplier of the value.
      * @return  the Nullable of the value.
      * 
@@ -115,6 +125,7 @@ public interface Nullable<TYPE> extends Supplier<TYPE>, IAsNullable<TYPE> {
         try {
             return new NullableImpl<TYPE>(theSupplier.get());
         } catch (NullPointerException e) {
+            NullPointerFallbacks.record(theSupplier);
             return empty();
         }
     }
@@ -198,7 +209,7 @@ public interface Nullable<TYPE> extends Supplier<TYPE>, IAsNullable<TYPE> {
         if (value == null)
             throw exceptionSupplier.get();
         
-        return get();
+        return value;
     }
     
     /**
@@ -212,7 +223,7 @@ public interface Nullable<TYPE> extends Supplier<TYPE>, IAsNullable<TYPE> {
         if (value == null)
             throw new NullPointerException();
         
-        return get();
+        return value;
     }
     
     /**
@@ -289,6 +300,48 @@ public interface Nullable<TYPE> extends Supplier<TYPE>, IAsNullable<TYPE> {
         return Nullable.of(newValue);
     }
     
+    /**
+     * Apply the mapper if the value is not null then return the result as NullableInt otherwise return empty NullableInt.
+     * 
+     * @param mapper  the mapper.
+     * @return  the result NullableInt or empty NullableInt.
+     */
+    public default NullableInt mapToInt(ToIntFunction<? super TYPE> mapper) {
+        val value = get();
+        if (value == null)
+            return NullableInt.empty();
+        
+        return NullableInt.of(mapper.applyAsInt(value));
+    }
+    
+    /**
+     * Apply the mapper if the value is not null then return the result as NullableLong otherwise return empty NullableLong.
+     * 
+     * @param mapper  the mapper.
+     * @return  the result NullableLong or empty NullableLong.
+     */
+    public default NullableLong mapToLong(ToLongFunction<? super TYPE> mapper) {
+        val value = get();
+        if (value == null)
+            return NullableLong.empty();
+        
+        return NullableLong.of(mapper.applyAsLong(value));
+    }
+    
+    /**
+     * Apply the mapper if the value is not null then return the result as NullableDouble otherwise return empty NullableDouble.
+     * 
+     * @param mapper  the mapper.
+     * @return  the result NullableDouble or empty NullableDouble.
+     */
+    public default NullableDouble mapToDouble(ToDoubleFunction<? super TYPE> mapper) {
+        val value = get();
+        if (value == null)
+            return NullableDouble.empty();
+        
+        return NullableDouble.of(mapper.applyAsDouble(value));
+    }
+    
     /**
      * Run a body of code with the value is not null. Then returns itself.
      * 
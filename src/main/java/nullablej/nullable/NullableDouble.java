@@ -0,0 +1,309 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.nullable;
+
+import java.util.OptionalDouble;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+
+import lombok.val;
+
+/**
+ * A Nullable of a primitive {@code double} -- the value is held with a presence flag so it is never boxed.
+ * 
+ * The methods mirror those of {@link Nullable} but take the primitive functional interfaces.
+ * Use {@link #toNullable()} and {@link #from(Nullable)} to convert to and from {@link Nullable}.
+ * 
+ * @author NawaMan -- nawa@nawaman.net
+ */
+public final class NullableDouble {
+    
+    private static final NullableDouble EMPTY = new NullableDouble(false, 0.0);
+    
+    private final boolean isPresent;
+    private final double value;
+    
+    private NullableDouble(boolean isPresent, double value) {
+        this.isPresent = isPresent;
+        this.value     = value;
+    }
+    
+    //== Factory method ===============================================================================================
+    
+    /**
+     * Returns the NullableDouble of the given value.
+     * 
+     * @param theGivenValue  the given value.
+     * @return  the NullableDouble of the given value.
+     */
+    public static NullableDouble of(double theGivenValue) {
+        return new NullableDouble(true, theGivenValue);
+    }
+    
+    /**
+     * Returns the NullableDouble of the given boxed value -- empty if the value is null.
+     * 
+     * @param theGivenValue  the given value.
+     * @return  the NullableDouble of the given value.
+     */
+    public static NullableDouble of(Double theGivenValue) {
+        if (theGivenValue == null)
+            return EMPTY;
+        
+        return new NullableDouble(true, theGivenValue.doubleValue());
+    }
+    
+    /**
+     * Returns the NullableDouble of the value of the given Nullable.
+     * 
+     * @param theNullable  the nullable.
+     * @return  the NullableDouble of the value.
+     */
+    public static NullableDouble from(Nullable<? extends Double> theNullable) {
+        if (theNullable == null)
+            return EMPTY;
+        
+        return of((Double)theNullable.get());
+    }
+    
+    /**
+     * Return NullableDouble which has no value.
+     * 
+     * @return  the NullableDouble of the no value.
+     */
+    public static NullableDouble empty() {
+        return EMPTY;
+    }
+    
+    //== Methods ======================================================================================================
+    
+    /**
+     * Check if the value is present.
+     * 
+     * @return {@code true} if the value is present.
+     */
+    public boolean isPresent() {
+        return isPresent;
+    }
+    
+    /**
+     * Check if the value is not present.
+     * 
+     * @return {@code true} if the value is not present.
+     */
+    public boolean isNull() {
+        return !isPresent;
+    }
+    
+    /**
+     * Returns the boxed value or null if the value is not present.
+     * 
+     * @return  the boxed value.
+     */
+    public Double get() {
+        return isPresent ? value : null;
+    }
+    
+    /**
+     * Returns the value if it is present or the fallbackValue otherwise.
+     * 
+     * @param fallbackValue  the fallback value.
+     * @return  the value or the fallback value.
+     */
+    public double orElse(double fallbackValue) {
+        return isPresent ? value : fallbackValue;
+    }
+    
+    /**
+     * Returns the value if it is present or the value from the fallbackSupplier otherwise.
+     * 
+     * @param fallbackSupplier  the fallbackSupplier.
+     * @return  the value or the fallback value.
+     */
+    public double orElseGet(DoubleSupplier fallbackSupplier) {
+        return isPresent ? value : fallbackSupplier.getAsDouble();
+    }
+    
+    /**
+     * Returns the value if it is present or throw the exception from the exceptionSupplier.
+     * 
+     * @param exceptionSupplier  the exception supplier.
+     * @return  the value.
+     * @param <THROWABLE> the exception to be thrown if the value is not present.
+     * @throws THROWABLE  if the value is not present.
+     */
+    public <THROWABLE extends Throwable> double orElseThrow(Supplier<? extends THROWABLE> exceptionSupplier) throws THROWABLE {
+        if (!isPresent)
+            throw exceptionSupplier.get();
+        
+        return value;
+    }
+    
+    /**
+     * Returns the value if it is present or throw NullPointerException.
+     * 
+     * @return  the value.
+     * @throws NullPointerException when the value is not present.
+     */
+    public double orElseThrow() throws NullPointerException {
+        if (!isPresent)
+            throw new NullPointerException();
+        
+        return value;
+    }
+    
+    /**
+     * Returns this object if the value is not present or pass the condition test otherwise return empty.
+     * 
+     * @param theCondition  the condition to be filter in.
+     * @return  this object or empty NullableDouble.
+     */
+    public NullableDouble filter(DoublePredicate theCondition) {
+        if (!isPresent)
+            return this;
+        
+        return theCondition.test(value) ? this : EMPTY;
+    }
+    
+    /**
+     * Apply the mapper if the value is present then return the result otherwise return empty.
+     * 
+     * @param mapper  the mapper.
+     * @return  the result or empty NullableDouble.
+     */
+    public NullableDouble map(DoubleUnaryOperator mapper) {
+        if (!isPresent)
+            return this;
+        
+        return new NullableDouble(true, mapper.applyAsDouble(value));
+    }
+    
+    /**
+     * Apply the mapper if the value is present then return the result as NullableInt otherwise return empty.
+     * 
+     * @param mapper  the mapper.
+     * @return  the result or empty NullableInt.
+     */
+    public NullableInt mapToInt(DoubleToIntFunction mapper) {
+        if (!isPresent)
+            return NullableInt.empty();
+        
+        return NullableInt.of(mapper.applyAsInt(value));
+    }
+    
+    /**
+     * Apply the mapper if the value is present then return the result as NullableLong otherwise return empty.
+     * 
+     * @param mapper  the mapper.
+     * @return  the result or empty NullableLong.
+     */
+    public NullableLong mapToLong(DoubleToLongFunction mapper) {
+        if (!isPresent)
+            return NullableLong.empty();
+        
+        return NullableLong.of(mapper.applyAsLong(value));
+    }
+    
+    /**
+     * Apply the mapper if the value is present then return the result wrapped with Nullable otherwise return empty Nullable.
+     * 
+     * @param mapper  the mapper.
+     * @return  the result Nullable or empty Nullable.
+     * @param <TARGET>  the target of the mapping.
+     */
+    public <TARGET> Nullable<TARGET> mapToObj(DoubleFunction<? extends TARGET> mapper) {
+        if (!isPresent)
+            return Nullable.empty();
+        
+        return Nullable.of(mapper.apply(value));
+    }
+    
+    /**
+     * If the value is present, pass it to the consumer.
+     * 
+     * @param theConsumer  the consumer.
+     * @return  this object.
+     */
+    public NullableDouble ifPresent(DoubleConsumer theConsumer) {
+        if (isPresent)
+            theConsumer.accept(value);
+        
+        return this;
+    }
+    
+    //== Conversion ===================================================================================================
+    
+    /**
+     * Returns the Nullable of the boxed value.
+     * 
+     * @return  the Nullable.
+     */
+    public Nullable<Double> toNullable() {
+        return isPresent ? Nullable.of(value) : Nullable.empty();
+    }
+    
+    /**
+     * Returns the OptionalDouble of the value.
+     * 
+     * @return  the OptionalDouble.
+     */
+    public OptionalDouble toOptional() {
+        return isPresent ? OptionalDouble.of(value) : OptionalDouble.empty();
+    }
+    
+    //== Object methods ===============================================================================================
+    
+    @Override
+    public int hashCode() {
+        return isPresent ? Double.hashCode(value) : 0;
+    }
+    
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (!(obj instanceof NullableDouble))
+            return false;
+        
+        val other = (NullableDouble)obj;
+        if (isPresent != other.isPresent)
+            return false;
+        
+        return !isPresent || (Double.compare(value, other.value) == 0);
+    }
+    
+    @Override
+    public String toString() {
+        if (!isPresent)
+            return "NullableDouble.EMPTY";
+        
+        return "NullableDouble.of(" + value + ")";
+    }
+    
+}
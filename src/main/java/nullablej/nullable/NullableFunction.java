@@ -0,0 +1,264 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import lombok.val;
+import nullablej.ParallelThreshold;
+
+/**
+ * A reusable function made of a {@link NullablePipeline} and its fallback -- {@code map(...).filter(...).orElse(...)}.
+ * 
+ * The function can be applied to many inputs at once (arrays, collections and streams)
+ *   with no allocation per element other than the results.
+ * Large arrays and lists (from the {@link ParallelThreshold}) can also be processed in parallel using the fork-join pool.
+ * 
+ * <pre>
+ * static final NullableFunction&lt;String, Integer&gt; lengthOf = NullablePipeline.start(String.class)
+ *         .map(String::trim)
+ *         .filter(text -&gt; !text.isEmpty())
+ *         .map(String::length)
+ *         .orElse(0);
+ * ...
+ * Integer[] lengths = lengthOf.applyAll(texts, Integer[]::new);
+ * </pre>
+ * 
+ * @param <SOURCE>  the type of the input.
+ * @param <TARGET>  the type of the result.
+ * 
+ * @author NawaMan -- nawa@nawaman.net
+ */
+public final class NullableFunction<SOURCE, TARGET> implements Function<SOURCE, TARGET> {
+    
+    private final NullablePipeline<SOURCE, TARGET> pipeline;
+    private final TARGET                           fallbackValue;
+    private final Supplier<? extends TARGET>       fallbackSupplier;
+    
+    private NullableFunction(NullablePipeline<SOURCE, TARGET> pipeline, TARGET fallbackValue, Supplier<? extends TARGET> fallbackSupplier) {
+        this.pipeline         = pipeline;
+        this.fallbackValue    = fallbackValue;
+        this.fallbackSupplier = fallbackSupplier;
+    }
+    
+    /**
+     * Create a function from the pipeline with the fallback value for the inputs with null result.
+     * 
+     * @param pipeline       the pipeline.
+     * @param fallbackValue  the fallback value.
+     * @return  the function.
+     * 
+     * @param <SOURCE>  the type of the input.
+     * @param <TARGET>  the type of the result.
+     */
+    public static <SOURCE, TARGET> NullableFunction<SOURCE, TARGET> of(NullablePipeline<SOURCE, TARGET> pipeline, TARGET fallbackValue) {
+        if (pipeline == null)
+            throw new NullPointerException("pipeline");
+        
+        return new NullableFunction<SOURCE, TARGET>(pipeline, fallbackValue, null);
+    }
+    
+    /**
+     * Create a function from the pipeline with the fallback supplier for the inputs with null result.
+     * 
+     * @param pipeline          the pipeline.
+     * @param fallbackSupplier  the fallback supplier.
+     * @return  the function.
+     * 
+     * @param <SOURCE>  the type of the input.
+     * @param <TARGET>  the type of the result.
+     */
+    public static <SOURCE, TARGET> NullableFunction<SOURCE, TARGET> of(NullablePipeline<SOURCE, TARGET> pipeline, Supplier<? extends TARGET> fallbackSupplier) {
+        if (pipeline == null)
+            throw new NullPointerException("pipeline");
+        if (fallbackSupplier == null)
+            throw new NullPointerException("fallbackSupplier");
+        
+        return new NullableFunction<SOURCE, TARGET>(pipeline, null, fallbackSupplier);
+    }
+    
+    //== Single ==
+    
+    @Override
+    public TARGET apply(SOURCE input) {
+        val value = pipeline.get(input);
+        if (value != null)
+            return value;
+        
+        return (fallbackSupplier != null) ? fallbackSupplier.get() : fallbackValue;
+    }
+    
+    //== Batch ==
+    
+    /**
+     * Apply this function to all the inputs and put the results in the results array.
+     * 
+     * @param inputs   the inputs.
+     * @param results  the results -- must be at least as long as the inputs.
+     * @return  the results array.
+     */
+    public TARGET[] applyAll(SOURCE[] inputs, TARGET[] results) {
+        checkLength(inputs.length, results.length);
+        applyRange(inputs, results, 0, inputs.length);
+        return results;
+    }
+    
+    /**
+     * Apply this function to all the inputs and returns the results.
+     * 
+     * @param inputs     the inputs.
+     * @param generator  the generator of the results array (e.g. {@code Integer[]::new}).
+     * @return  the results.
+     */
+    public TARGET[] applyAll(SOURCE[] inputs, IntFunction<TARGET[]> generator) {
+        return applyAll(inputs, generator.apply(inputs.length));
+    }
+    
+    /**
+     * Apply this function to all the inputs and returns the results.
+     * 
+     * @param inputs  the inputs.
+     * @return  the results.
+     */
+    public List<TARGET> applyAll(Collection<? extends SOURCE> inputs) {
+        val results = new ArrayList<TARGET>(inputs.size());
+        for (val input : inputs) {
+            results.add(apply(input));
+        }
+        return results;
+    }
+    
+    /**
+     * Apply this function to all the inputs (lazily as the stream is consumed).
+     * 
+     * @param inputs  the inputs.
+     * @return  the stream of the results.
+     */
+    public Stream<TARGET> applyAll(Stream<? extends SOURCE> inputs) {
+        return inputs.map(this);
+    }
+    
+    //== Parallel ==
+    
+    /**
+     * Apply this function to all the inputs in parallel (for large inputs) and put the results in the results array.
+     * 
+     * @param inputs   the inputs.
+     * @param results  the results -- must be at least as long as the inputs.
+     * @return  the results array.
+     */
+    public TARGET[] applyAllParallel(SOURCE[] inputs, TARGET[] results) {
+        checkLength(inputs.length, results.length);
+        val threshold = ParallelThreshold.get();
+        if (inputs.length < threshold) {
+            applyRange(inputs, results, 0, inputs.length);
+        } else {
+            ForkJoinPool.commonPool().invoke(new ApplyTask<SOURCE, TARGET>(this, inputs, results, 0, inputs.length, threshold));
+        }
+        return results;
+    }
+    
+    /**
+     * Apply this function to all the inputs in parallel (for large inputs) and returns the results.
+     * 
+     * @param inputs     the inputs.
+     * @param generator  the generator of the results array (e.g. {@code Integer[]::new}).
+     * @return  the results.
+     */
+    public TARGET[] applyAllParallel(SOURCE[] inputs, IntFunction<TARGET[]> generator) {
+        return applyAllParallel(inputs, generator.apply(inputs.length));
+    }
+    
+    /**
+     * Apply this function to all the inputs in parallel (for large inputs) and returns the results.
+     * 
+     * @param inputs  the inputs.
+     * @return  the results.
+     */
+    @SuppressWarnings("unchecked")
+    public List<TARGET> applyAllParallel(Collection<? extends SOURCE> inputs) {
+        val threshold = ParallelThreshold.get();
+        if (inputs.size() < threshold)
+            return applyAll(inputs);
+        
+        val sources = (SOURCE[])inputs.toArray();
+        val results = (TARGET[])new Object[sources.length];
+        ForkJoinPool.commonPool().invoke(new ApplyTask<SOURCE, TARGET>(this, sources, results, 0, sources.length, threshold));
+        return new ArrayList<TARGET>(Arrays.asList(results));
+    }
+    
+    private void applyRange(SOURCE[] inputs, TARGET[] results, int from, int to) {
+        for (int i = from; i < to; i++) {
+            results[i] = apply(inputs[i]);
+        }
+    }
+    
+    private static void checkLength(int inputLength, int resultLength) {
+        if (resultLength < inputLength)
+            throw new IllegalArgumentException("The results array is too short: " + resultLength + " < " + inputLength);
+    }
+    
+    /** The fork-join task applying the function to a range of the inputs. */
+    private static final class ApplyTask<SOURCE, TARGET> extends RecursiveAction {
+        
+        private static final long serialVersionUID = 1L;
+        
+        private final NullableFunction<SOURCE, TARGET> function;
+        private final SOURCE[]                         inputs;
+        private final TARGET[]                         results;
+        private final int                              from;
+        private final int                              to;
+        private final int                              threshold;
+        
+        ApplyTask(NullableFunction<SOURCE, TARGET> function, SOURCE[] inputs, TARGET[] results, int from, int to, int threshold) {
+            this.function  = function;
+            this.inputs    = inputs;
+            this.results   = results;
+            this.from      = from;
+            this.to        = to;
+            this.threshold = threshold;
+        }
+        
+        @Override
+        protected void compute() {
+            if ((to - from) <= threshold) {
+                function.applyRange(inputs, results, from, to);
+                return;
+            }
+            
+            val middle = (from + to) >>> 1;
+            invokeAll(new ApplyTask<SOURCE, TARGET>(function, inputs, results, from,   middle, threshold),
+                      new ApplyTask<SOURCE, TARGET>(function, inputs, results, middle, to,     threshold));
+        }
+    }
+    
+}
@@ -0,0 +1,309 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.nullable;
+
+import java.util.OptionalInt;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+
+import lombok.val;
+
+/**
+ * A Nullable of a primitive {@code int} -- the value is held with a presence flag so it is never boxed.
+ * 
+ * The methods mirror those of {@link Nullable} but take the primitive functional interfaces.
+ * Use {@link #toNullable()} and {@link #from(Nullable)} to convert to and from {@link Nullable}.
+ * 
+ * @author NawaMan -- nawa@nawaman.net
+ */
+public final class NullableInt {
+    
+    private static final NullableInt EMPTY = new NullableInt(false, 0);
+    
+    private final boolean isPresent;
+    private final int value;
+    
+    private NullableInt(boolean isPresent, int value) {
+        this.isPresent = isPresent;
+        this.value     = value;
+    }
+    
+    //== Factory method ===============================================================================================
+    
+    /**
+     * Returns the NullableInt of the given value.
+     * 
+     * @param theGivenValue  the given value.
+     * @return  the NullableInt of the given value.
+     */
+    public static NullableInt of(int theGivenValue) {
+        return new NullableInt(true, theGivenValue);
+    }
+    
+    /**
+     * Returns the NullableInt of the given boxed value -- empty if the value is null.
+     * 
+     * @param theGivenValue  the given value.
+     * @return  the NullableInt of the given value.
+     */
+    public static NullableInt of(Integer theGivenValue) {
+        if (theGivenValue == null)
+            return EMPTY;
+        
+        return new NullableInt(true, theGivenValue.intValue());
+    }
+    
+    /**
+     * Returns the NullableInt of the value of the given Nullable.
+     * 
+     * @param theNullable  the nullable.
+     * @return  the NullableInt of the value.
+     */
+    public static NullableInt from(Nullable<? extends Integer> theNullable) {
+        if (theNullable == null)
+            return EMPTY;
+        
+        return of((Integer)theNullable.get());
+    }
+    
+    /**
+     * Return NullableInt which has no value.
+     * 
+     * @return  the NullableInt of the no value.
+     */
+    public static NullableInt empty() {
+        return EMPTY;
+    }
+    
+    //== Methods ======================================================================================================
+    
+    /**
+     * Check if the value is present.
+     * 
+     * @return {@code true} if the value is present.
+     */
+    public boolean isPresent() {
+        return isPresent;
+    }
+    
+    /**
+     * Check if the value is not present.
+     * 
+     * @return {@code true} if the value is not present.
+     */
+    public boolean isNull() {
+        return !isPresent;
+    }
+    
+    /**
+     * Returns the boxed value or null if the value is not present.
+     * 
+     * @return  the boxed value.
+     */
+    public Integer get() {
+        return isPresent ? value : null;
+    }
+    
+    /**
+     * Returns the value if it is present or the fallbackValue otherwise.
+     * 
+     * @param fallbackValue  the fallback value.
+     * @return  the value or the fallback value.
+     */
+    public int orElse(int fallbackValue) {
+        return isPresent ? value : fallbackValue;
+    }
+    
+    /**
+     * Returns the value if it is present or the value from the fallbackSupplier otherwise.
+     * 
+     * @param fallbackSupplier  the fallbackSupplier.
+     * @return  the value or the fallback value.
+     */
+    public int orElseGet(IntSupplier fallbackSupplier) {
+        return isPresent ? value : fallbackSupplier.getAsInt();
+    }
+    
+    /**
+     * Returns the value if it is present or throw the exception from the exceptionSupplier.
+     * 
+     * @param exceptionSupplier  the exception supplier.
+     * @return  the value.
+     * @param <THROWABLE> the exception to be thrown if the value is not present.
+     * @throws THROWABLE  if the value is not present.
+     */
+    public <THROWABLE extends Throwable> int orElseThrow(Supplier<? extends THROWABLE> exceptionSupplier) throws THROWABLE {
+        if (!isPresent)
+            throw exceptionSupplier.get();
+        
+        return value;
+    }
+    
+    /**
+     * Returns the value if it is present or throw NullPointerException.
+     * 
+     * @return  the value.
+     * @throws NullPointerException when the value is not present.
+     */
+    public int orElseThrow() throws NullPointerException {
+        if (!isPresent)
+            throw new NullPointerException();
+        
+        return value;
+    }
+    
+    /**
+     * Returns this object if the value is not present or pass the condition test otherwise return empty.
+     * 
+     * @param theCondition  the condition to be filter in.
+     * @return  this object or empty NullableInt.
+     */
+    public NullableInt filter(IntPredicate theCondition) {
+        if (!isPresent)
+            return this;
+        
+        return theCondition.test(value) ? this : EMPTY;
+    }
+    
+    /**
+     * Apply the mapper if the value is present then return the result otherwise return empty.
+     * 
+     * @param mapper  the mapper.
+     * @return  the result or empty NullableInt.
+     */
+    public NullableInt map(IntUnaryOperator mapper) {
+        if (!isPresent)
+            return this;
+        
+        return new NullableInt(true, mapper.applyAsInt(value));
+    }
+    
+    /**
+     * Apply the mapper if the value is present then return the result as NullableLong otherwise return empty.
+     * 
+     * @param mapper  the mapper.
+     * @return  the result or empty NullableLong.
+     */
+    public NullableLong mapToLong(IntToLongFunction mapper) {
+        if (!isPresent)
+            return NullableLong.empty();
+        
+        return NullableLong.of(mapper.applyAsLong(value));
+    }
+    
+    /**
+     * Apply the mapper if the value is present then return the result as NullableDouble otherwise return empty.
+     * 
+     * @param mapper  the mapper.
+     * @return  the result or empty NullableDouble.
+     */
+    public NullableDouble mapToDouble(IntToDoubleFunction mapper) {
+        if (!isPresent)
+            return NullableDouble.empty();
+        
+        return NullableDouble.of(mapper.applyAsDouble(value));
+    }
+    
+    /**
+     * Apply the mapper if the value is present then return the result wrapped with Nullable otherwise return empty Nullable.
+     * 
+     * @param mapper  the mapper.
+     * @return  the result Nullable or empty Nullable.
+     * @param <TARGET>  the target of the mapping.
+     */
+    public <TARGET> Nullable<TARGET> mapToObj(IntFunction<? extends TARGET> mapper) {
+        if (!isPresent)
+            return Nullable.empty();
+        
+        return Nullable.of(mapper.apply(value));
+    }
+    
+    /**
+     * If the value is present, pass it to the consumer.
+     * 
+     * @param theConsumer  the consumer.
+     * @return  this object.
+     */
+    public NullableInt ifPresent(IntConsumer theConsumer) {
+        if (isPresent)
+            theConsumer.accept(value);
+        
+        return this;
+    }
+    
+    //== Conversion ===================================================================================================
+    
+    /**
+     * Returns the Nullable of the boxed value.
+     * 
+     * @return  the Nullable.
+     */
+    public Nullable<Integer> toNullable() {
+        return isPresent ? Nullable.of(value) : Nullable.empty();
+    }
+    
+    /**
+     * Returns the OptionalInt of the value.
+     * 
+     * @return  the OptionalInt.
+     */
+    public OptionalInt toOptional() {
+        return isPresent ? OptionalInt.of(value) : OptionalInt.empty();
+    }
+    
+    //== Object methods ===============================================================================================
+    
+    @Override
+    public int hashCode() {
+        return isPresent ? value : 0;
+    }
+    
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (!(obj instanceof NullableInt))
+            return false;
+        
+        val other = (NullableInt)obj;
+        if (isPresent != other.isPresent)
+            return false;
+        
+        return !isPresent || (value == other.value);
+    }
+    
+    @Override
+    public String toString() {
+        if (!isPresent)
+            return "NullableInt.EMPTY";
+        
+        return "NullableInt.of(" + value + ")";
+    }
+    
+}
@@ -0,0 +1,153 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.nullable;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+import lombok.val;
+
+/**
+ * A null-safe navigation path -- a chain of getters evaluated with explicit null checks.
+ * 
+ * This is the exception-free alternative to {@code Nullable.from(()->person.getAddress().getCity())}
+ *   which runs the supplier and catches {@link NullPointerException} (with its stack trace) when the chain is broken.
+ * The path stops at the first null and returns an empty {@link Nullable} without throwing.
+ * 
+ * <pre>
+ * static final NullablePath&lt;Person, String&gt; cityOf = NullablePath.path(Person::getAddress).then(Address::getCity);
+ * ...
+ * String city = cityOf.apply(person).orElse("Unknown");
+ * </pre>
+ * 
+ * Paths are immutable so they can be created once and reused.
+ * Exceptions thrown by the getters themselves are not caught.
+ * 
+ * @param <SOURCE>  the type of the source.
+ * @param <TARGET>  the type of the target of the path.
+ * 
+ * @author NawaMan -- nawa@nawaman.net
+ */
+public final class NullablePath<SOURCE, TARGET> implements Function<SOURCE, Nullable<TARGET>> {
+    
+    @SuppressWarnings("rawtypes")
+    private final Function[] getters;
+    
+    @SuppressWarnings("rawtypes")
+    private NullablePath(Function[] getters) {
+        this.getters = getters;
+    }
+    
+    /**
+     * Create a path starting with the given getter.
+     * 
+     * @param getter  the first getter.
+     * @return  the path.
+     * 
+     * @param <SOURCE>  the type of the source.
+     * @param <TARGET>  the type of the target.
+     */
+    public static <SOURCE, TARGET> NullablePath<SOURCE, TARGET> path(Function<? super SOURCE, ? extends TARGET> getter) {
+        if (getter == null)
+            throw new NullPointerException("getter");
+        
+        return new NullablePath<SOURCE, TARGET>(new Function[] { getter });
+    }
+    
+    /**
+     * Returns the new path that continues from this path with the given getter.
+     * 
+     * @param getter  the next getter.
+     * @return  the new path.
+     * 
+     * @param <NEXT>  the type of the new target.
+     */
+    public <NEXT> NullablePath<SOURCE, NEXT> then(Function<? super TARGET, ? extends NEXT> getter) {
+        if (getter == null)
+            throw new NullPointerException("getter");
+        
+        val newGetters = Arrays.copyOf(getters, getters.length + 1);
+        newGetters[getters.length] = getter;
+        return new NullablePath<SOURCE, NEXT>(newGetters);
+    }
+    
+    /**
+     * Returns the value at the end of the path from the source or null if any value along the path is null.
+     * 
+     * @param source  the source.
+     * @return  the target value or null.
+     */
+    @SuppressWarnings("unchecked")
+    public TARGET get(SOURCE source) {
+        Object value = source;
+        for (int i = 0; i < getters.length; i++) {
+            if (value == null)
+                return null;
+            
+            value = getters[i].apply(value);
+        }
+        return (TARGET)value;
+    }
+    
+    /**
+     * Returns the nullable of the value at the end of the path from the source.
+     * 
+     * @param source  the source.
+     * @return  the nullable of the target value -- empty if any value along the path is null.
+     */
+    @Override
+    public Nullable<TARGET> apply(SOURCE source) {
+        return Nullable.of(get(source));
+    }
+    
+    /**
+     * Returns the value at the end of the path from the source or the fallback value if any value along the path is null.
+     * 
+     * @param source         the source.
+     * @param fallbackValue  the fallback value.
+     * @return  the target value or the fallback value.
+     */
+    public TARGET orElse(SOURCE source, TARGET fallbackValue) {
+        val value = get(source);
+        return (value != null) ? value : fallbackValue;
+    }
+    
+    /**
+     * Returns the nullable of the value at the end of the path from the value of the given nullable.
+     * 
+     * @param nullable  the nullable of the source.
+     * @return  the nullable of the target value.
+     */
+    public Nullable<TARGET> from(Nullable<? extends SOURCE> nullable) {
+        if (nullable == null)
+            return Nullable.empty();
+        
+        return Nullable.of(get(nullable.get()));
+    }
+    
+    @Override
+    public String toString() {
+        return "NullablePath(" + getters.length + ")";
+    }
+    
+}
@@ -0,0 +1,292 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.nullable;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import lombok.val;
+
+/**
+ * A pre-built chain of Nullable operations (map, filter, flatMap, peek) evaluated in a single pass.
+ * 
+ * Each {@code Nullable.map(...)} creates a new Nullable for its result.
+ * A pipeline records the stages and runs them in one loop on the terminal operation (e.g. {@link #orElse(Object, Object)})
+ *   so no intermediate Nullable is created.
+ * Pipelines are immutable so they can be created once and applied to many inputs.
+ * 
+ * <pre>
+ * static final NullablePipeline&lt;String, Integer&gt; lengthOf = NullablePipeline.start(String.class)
+ *         .map(String::trim)
+ *         .filter(text -&gt; !text.isEmpty())
+ *         .map(String::length);
+ * ...
+ * int length = lengthOf.orElse(text, 0);
+ * </pre>
+ * 
+ * The semantic is the same as the chain of Nullable methods -- the pipeline stops at the first null value.
+ * 
+ * @param <SOURCE>  the type of the input.
+ * @param <TARGET>  the type of the result.
+ * 
+ * @author NawaMan -- nawa@nawaman.net
+ */
+public final class NullablePipeline<SOURCE, TARGET> implements Function<SOURCE, Nullable<TARGET>> {
+    
+    private static final byte MAP      = 0;
+    private static final byte FILTER   = 1;
+    private static final byte FLAT_MAP = 2;
+    private static final byte PEEK     = 3;
+    
+    @SuppressWarnings("rawtypes")
+    private static final NullablePipeline EMPTY = new NullablePipeline<>(new byte[0], new Object[0]);
+    
+    private final byte[]   kinds;
+    private final Object[] stages;
+    
+    private NullablePipeline(byte[] kinds, Object[] stages) {
+        this.kinds  = kinds;
+        this.stages = stages;
+    }
+    
+    /**
+     * Returns the pipeline with no stage.
+     * 
+     * @return  the pipeline.
+     * 
+     * @param <TYPE>  the type of the input.
+     */
+    @SuppressWarnings("unchecked")
+    public static <TYPE> NullablePipeline<TYPE, TYPE> start() {
+        return (NullablePipeline<TYPE, TYPE>)EMPTY;
+    }
+    
+    /**
+     * Returns the pipeline with no stage for the given input type.
+     * 
+     * @param inputClass  the input type.
+     * @return  the pipeline.
+     * 
+     * @param <TYPE>  the type of the input.
+     */
+    public static <TYPE> NullablePipeline<TYPE, TYPE> start(Class<TYPE> inputClass) {
+        return start();
+    }
+    
+    //== Stages ==
+    
+    /**
+     * Add the map stage.
+     * 
+     * @param mapper  the mapper.
+     * @return  the new pipeline.
+     * 
+     * @param <NEXT>  the type of the new result.
+     */
+    public <NEXT> NullablePipeline<SOURCE, NEXT> map(Function<? super TARGET, ? extends NEXT> mapper) {
+        return add(MAP, mapper);
+    }
+    
+    /**
+     * Add the filter stage.
+     * 
+     * @param theCondition  the condition to be filter in.
+     * @return  the new pipeline.
+     */
+    public NullablePipeline<SOURCE, TARGET> filter(Predicate<? super TARGET> theCondition) {
+        return add(FILTER, theCondition);
+    }
+    
+    /**
+     * Add the flatMap stage.
+     * 
+     * @param mapper  the mapper.
+     * @return  the new pipeline.
+     * 
+     * @param <NEXT>  the type of the new result.
+     */
+    public <NEXT> NullablePipeline<SOURCE, NEXT> flatMap(Function<? super TARGET, ? extends Nullable<NEXT>> mapper) {
+        return add(FLAT_MAP, mapper);
+    }
+    
+    /**
+     * Add the peek stage.
+     * 
+     * @param theConsumer  the consumer.
+     * @return  the new pipeline.
+     */
+    public NullablePipeline<SOURCE, TARGET> peek(Consumer<? super TARGET> theConsumer) {
+        return add(PEEK, theConsumer);
+    }
+    
+    private <NEXT> NullablePipeline<SOURCE, NEXT> add(byte kind, Object stage) {
+        if (stage == null)
+            throw new NullPointerException("stage");
+        
+        val newKinds  = Arrays.copyOf(kinds,  kinds.length  + 1);
+        val newStages = Arrays.copyOf(stages, stages.length + 1);
+        newKinds [kinds.length]  = kind;
+        newStages[stages.length] = stage;
+        return new NullablePipeline<SOURCE, NEXT>(newKinds, newStages);
+    }
+    
+    //== Terminal operations ==
+    
+    /**
+     * Run the pipeline on the input and returns the result or null.
+     * 
+     * @param input  the input.
+     * @return  the result or null.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public TARGET get(SOURCE input) {
+        Object value = input;
+        for (int i = 0; i < kinds.length; i++) {
+            if (value == null)
+                return null;
+            
+            val stage = stages[i];
+            switch (kinds[i]) {
+                case MAP:
+                    value = ((Function)stage).apply(value);
+                    break;
+                case FILTER:
+                    if (!((Predicate)stage).test(value))
+                        return null;
+                    break;
+                case FLAT_MAP: {
+                    val nullable = (Nullable)((Function)stage).apply(value);
+                    value = (nullable != null) ? nullable.get() : null;
+                    break;
+                }
+                case PEEK:
+                    ((Consumer)stage).accept(value);
+                    break;
+            }
+        }
+        return (TARGET)value;
+    }
+    
+    /**
+     * Run the pipeline on the input and returns the Nullable of the result.
+     * 
+     * @param input  the input.
+     * @return  the Nullable of the result.
+     */
+    @Override
+    public Nullable<TARGET> apply(SOURCE input) {
+        return Nullable.of(get(input));
+    }
+    
+    /**
+     * Run the pipeline on the value of the Nullable and returns the Nullable of the result.
+     * 
+     * @param nullable  the nullable of the input.
+     * @return  the Nullable of the result.
+     */
+    public Nullable<TARGET> from(Nullable<? extends SOURCE> nullable) {
+        if (nullable == null)
+            return Nullable.empty();
+        
+        return Nullable.of(get(nullable.get()));
+    }
+    
+    /**
+     * Returns the function of this pipeline that returns the fallback value for the inputs with null result.
+     * 
+     * @param fallbackValue  the fallback value.
+     * @return  the function.
+     */
+    public NullableFunction<SOURCE, TARGET> orElse(TARGET fallbackValue) {
+        return NullableFunction.of(this, fallbackValue);
+    }
+    
+    /**
+     * Returns the function of this pipeline that returns the value from the fallback supplier for the inputs with null result.
+     * 
+     * @param fallbackSupplier  the fallback supplier.
+     * @return  the function.
+     */
+    public NullableFunction<SOURCE, TARGET> orElseGet(Supplier<? extends TARGET> fallbackSupplier) {
+        return NullableFunction.of(this, fallbackSupplier);
+    }
+    
+    /**
+     * Run the pipeline on the input and returns the result or the fallbackValue if the result is null.
+     * 
+     * @param input          the input.
+     * @param fallbackValue  the fallback value.
+     * @return  the result or the fallback value.
+     */
+    public TARGET orElse(SOURCE input, TARGET fallbackValue) {
+        val value = get(input);
+        return (value != null) ? value : fallbackValue;
+    }
+    
+    /**
+     * Run the pipeline on the input and returns the result or the value from the fallbackSupplier if the result is null.
+     * 
+     * @param input             the input.
+     * @param fallbackSupplier  the fallback supplier.
+     * @return  the result or the fallback value.
+     */
+    public TARGET orElseGet(SOURCE input, Supplier<? extends TARGET> fallbackSupplier) {
+        val value = get(input);
+        return (value != null) ? value : fallbackSupplier.get();
+    }
+    
+    /**
+     * Run the pipeline on the input and check if the result is not null.
+     * 
+     * @param input  the input.
+     * @return  {@code true} if the result is not null.
+     */
+    public boolean isPresent(SOURCE input) {
+        return get(input) != null;
+    }
+    
+    /**
+     * Run the pipeline on the input and pass the result to the consumer if it is not null.
+     * 
+     * @param input        the input.
+     * @param theConsumer  the consumer.
+     * @return  {@code true} if the result is not null.
+     */
+    public boolean ifPresent(SOURCE input, Consumer<? super TARGET> theConsumer) {
+        val value = get(input);
+        if (value == null)
+            return false;
+        
+        theConsumer.accept(value);
+        return true;
+    }
+    
+    @Override
+    public String toString() {
+        return "NullablePipeline(" + kinds.length + ")";
+    }
+    
+}
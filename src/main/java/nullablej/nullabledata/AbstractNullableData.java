@@ -0,0 +1,113 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.nullabledata;
+
+import java.util.function.Supplier;
+
+import nullablej.nullable.IAsNullable;
+import nullablej.nullable.Nullable;
+import nullablej.nullvalue.NullValues;
+
+/**
+ * The base class of the generated implementations of nullable data.
+ * 
+ * The sub classes only need to implement the data methods --
+ *   by delegating to {@link #nullableValue()} if it is not null or returning {@link #nullValueOf(Class)} otherwise.
+ * The default methods of the data interface are used as is.
+ * This class behaves the same way as the dynamic proxy created by {@link NullableData}.
+ * 
+ * @param <DATA>  the data type.
+ * 
+ * @author NawaMan -- nawa@nawaman.net
+ */
+public abstract class AbstractNullableData<DATA> implements IAsNullable<DATA> {
+    
+    private final Class<?>                 dataClass;
+    private final Supplier<? extends DATA> valueSupplier;
+    private final Nullable<DATA>           nullable;
+    
+    /**
+     * Constructs the nullable data.
+     * 
+     * @param dataClass      the data class.
+     * @param valueSupplier  the value supplier.
+     * @param nullable       the nullable of the value.
+     */
+    protected AbstractNullableData(Class<?> dataClass, Supplier<? extends DATA> valueSupplier, Nullable<DATA> nullable) {
+        this.dataClass     = dataClass;
+        this.valueSupplier = valueSupplier;
+        this.nullable      = nullable;
+    }
+    
+    /**
+     * Returns the value from the value supplier.
+     * 
+     * @return  the value.
+     */
+    protected final DATA suppliedValue() {
+        return valueSupplier.get();
+    }
+    
+    /**
+     * Returns the value held by the nullable -- this is the value the data methods should be delegated to.
+     * 
+     * @return  the value.
+     */
+    protected final DATA nullableValue() {
+        return nullable.get();
+    }
+    
+    /**
+     * Returns the null value of the given type.
+     * 
+     * @param type  the type.
+     * @return  the null value.
+     * 
+     * @param <TYPE>  the type.
+     */
+    protected static <TYPE> TYPE nullValueOf(Class<TYPE> type) {
+        return NullValues.nullValueOf(type);
+    }
+    
+    @Override
+    public final Nullable<DATA> asNullable() {
+        return nullable;
+    }
+    
+    @Override
+    public final String toString() {
+        return dataClass.getSimpleName() + "=null";
+    }
+    
+    @Override
+    public final int hashCode() {
+        return dataClass.hashCode();
+    }
+    
+    @Override
+    public final boolean equals(Object obj) {
+        // Same as the dynamic proxy.
+        return (obj == null) || (obj == this);
+    }
+    
+}
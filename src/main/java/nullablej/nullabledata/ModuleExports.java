@@ -0,0 +1,75 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.nullabledata;
+
+import java.lang.reflect.Method;
+
+/**
+ * Check if the package of a class is exported by its module -- this is the version for Java 8 to 15.
+ * 
+ * There is no module on Java 8 so every package is exported; on Java 9 to 15, the module API is called reflectively.
+ * The multi-release JAR also has the version for Java 16+ (from {@code src/main/java16}) which calls the module API directly.
+ * 
+ * @author NawaMan -- nawa@nawaman.net
+ */
+final class ModuleExports {
+    
+    private static final Method getModule  = findMethod(Class.class, "getModule");
+    private static final Method isExported = (getModule == null) ? null : findMethod(getModule.getReturnType(), "isExported", String.class);
+    
+    private ModuleExports() {
+    }
+    
+    /**
+     * Check if the package of the given class is exported (to all modules) by its module.
+     * 
+     * @param clzz  the class -- not an array nor a primitive type.
+     * @return  {@code true} if the package is exported or if there is no module.
+     */
+    static boolean isExported(Class<?> clzz) {
+        if (isExported == null)
+            return true;
+        
+        try {
+            Object module = getModule.invoke(clzz);
+            return (Boolean)isExported.invoke(module, packageNameOf(clzz));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return false;
+        }
+    }
+    
+    private static String packageNameOf(Class<?> clzz) {
+        String className = clzz.getName();
+        int    dotIndex  = className.lastIndexOf('.');
+        return (dotIndex < 0) ? "" : className.substring(0, dotIndex);
+    }
+    
+    private static Method findMethod(Class<?> type, String name, Class<?> ... parameterTypes) {
+        try {
+            return type.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException | SecurityException e) {
+            return null;
+        }
+    }
+    
+}
@@ -25,11 +25,15 @@ package nullablej.nullabledata;
 
 import static nullablej.utils.reflection.UProxy.invokeDefaultMethod;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
@@ -37,7 +41,10 @@ import lombok.val;
 import nullablej.NullableJ;
 import nullablej.nullable.IAsNullable;
 import nullablej.nullable.Nullable;
+import nullablej.nullabledata.processor.NullableDataGenerator;
+import nullablej.nullabledata.processor.NullableDataType;
 import nullablej.nullvalue.NullValues;
+import nullablej.utils.ClassCacheMetrics;
 
 /**
  * NullableData can create an instance of any interface that act as a null object.
@@ -54,18 +61,68 @@ import nullablej.nullvalue.NullValues;
  * But the implement of {@link IAsNullable} is hidden meaning that
  *   the instance has to be casted to IAsNullable before it can be used as such.
  * You can also make the data interface to implement the {@link IAsNullable} interface.
+ * 
+ * If the data interface is annotated with {@link NullableDataType},
+ *   the nullable data class generated at compile time is used instead of the dynamic proxy.
+ * Otherwise, the nullable data class is spun at runtime (once per data interface) for public interfaces
+ *   and the dynamic proxy is only used for the interfaces that cannot be spun.
  *   
  * 
  * @author NawaMan -- nawa@nawaman.net
  */
 public class NullableData {
     
-    @SuppressWarnings("rawtypes")
-    private static final Map<Class, Object> nullableObjects = new ConcurrentHashMap<>();
+    /** The name of the cache of the empty nullable data objects in {@link ClassCacheMetrics}. */
+    public static final String CACHE_NAME = "NullableData.nullableObjects";
+    
+    /** The empty nullable data object of each data interface. */
+    private static final ClassValue<Object> nullableObjects = new ClassValue<Object>() {
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        @Override
+        protected Object computeValue(Class<?> dataClass) {
+            ClassCacheMetrics.recordEntry(CACHE_NAME, dataClass);
+            return from((Supplier)nullSupplier, (Class)dataClass, Nullable.empty());
+        }
+    };
+    
+    /** The empty nullable data objects of each as-nullable interface -- keyed by the data interface it is used with. */
+    private static final ClassValue<Map<Class<?>, Object>> asNullableObjects = new ClassValue<Map<Class<?>, Object>>() {
+        @Override
+        protected Map<Class<?>, Object> computeValue(Class<?> asNullableClass) {
+            return new ConcurrentHashMap<>();
+        }
+    };
     
     @SuppressWarnings("rawtypes")
     private static final Supplier nullSupplier = ()->null;
     
+    private static final MethodType generatedConstructorType = MethodType.methodType(void.class, Supplier.class, Nullable.class);
+    
+    /** The constructor of the generated nullable data class of each data interface -- null if there is none. */
+    private static final ClassValue<MethodHandle> generatedConstructors = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> dataClass) {
+            return findGeneratedConstructor(dataClass);
+        }
+    };
+    
+    /** The constructor of the runtime spun nullable data class of each data interface -- null if it cannot be spun. */
+    private static final ClassValue<MethodHandle> spunConstructors = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> dataClass) {
+            return spinConstructor(dataClass, IAsNullable.class);
+        }
+    };
+    
+    /** The spun constructors for each as-nullable interface -- keyed by the data interface it is used with. */
+    private static final ClassValue<Map<Class<?>, Optional<MethodHandle>>> spunAsNullableConstructors
+            = new ClassValue<Map<Class<?>, Optional<MethodHandle>>>() {
+        @Override
+        protected Map<Class<?>, Optional<MethodHandle>> computeValue(Class<?> asNullableClass) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    
     private NullableData() {
         
     }
@@ -90,7 +147,8 @@ public class NullableData {
             Class<DATA>       dataObjectClass, 
             Class<ASNULLABLE> asNullableObjectClass) {
         if (dataValue == null) {
-            return (ASNULLABLE)nullableObjects.computeIfAbsent(asNullableObjectClass, clzz->{
+            return (ASNULLABLE)asNullableObjects.get(asNullableObjectClass).computeIfAbsent(dataObjectClass, clzz->{
+                ClassCacheMetrics.recordEntry(CACHE_NAME, asNullableObjectClass);
                 return from((Supplier<DATA>)nullSupplier, dataObjectClass, asNullableObjectClass, Nullable.empty());
             });
         }
@@ -114,9 +172,7 @@ public class NullableData {
     @SuppressWarnings("unchecked")
     public static <DATA> DATA of(DATA dataValue, Class<DATA> dataClass) {
         if (dataValue == null) {
-            return (DATA)nullableObjects.computeIfAbsent(dataClass, clzz->{
-                return from((Supplier<DATA>)nullSupplier, dataClass, Nullable.empty());
-            });
+            return (DATA)nullableObjects.get(dataClass);
         }
         if ((dataValue instanceof IAsNullable)
                 && dataClass.isInstance(dataValue))
@@ -175,6 +231,11 @@ public class NullableData {
         if (!dataObjectClass.isInterface())
             throw new IllegalArgumentException("The data class must be an interface: " + dataObjectClass);
         
+        val spunConstructor = spunAsNullableConstructors.get(asNullableObjectClass)
+                .computeIfAbsent(dataObjectClass, dataClass -> Optional.ofNullable(spinConstructor(dataClass, asNullableObjectClass)));
+        if (spunConstructor.isPresent())
+            return asNullableObjectClass.cast(newGeneratedNullableData(spunConstructor.get(), valueSupplier, nullable));
+        
         val interfaces  = new Class<?>[] { dataObjectClass, asNullableObjectClass };
         val classLoader = dataObjectClass.getClassLoader();
         val handler     = createNullableInvocationHandler(valueSupplier, (Class<DATA>)asNullableObjectClass, nullable);
@@ -204,6 +265,14 @@ public class NullableData {
         if (!dataObjectClass.isInterface())
             throw new IllegalArgumentException("The data class must be an interface: " + dataObjectClass);
         
+        val generatedConstructor = generatedConstructors.get(dataObjectClass);
+        if (generatedConstructor != null)
+            return newGeneratedNullableData(generatedConstructor, valueSupplier, nullable);
+        
+        val spunConstructor = spunConstructors.get(dataObjectClass);
+        if (spunConstructor != null)
+            return newGeneratedNullableData(spunConstructor, valueSupplier, nullable);
+        
         val interfaces  = new Class<?>[] { dataObjectClass, IAsNullable.class };
         val classLoader = dataObjectClass.getClassLoader();
         val handler     = createNullableInvocationHandler(valueSupplier, dataObjectClass, nullable);
@@ -213,18 +282,123 @@ public class NullableData {
     }
     
     
-    private static Object invokeNullableProxy(Object proxy, Method method, Object[] args)
-            throws IllegalAccessException, IllegalArgumentException, InvocationTargetException {
-        @SuppressWarnings("rawtypes")
-        val value = ((IAsNullable)proxy).asNullable().get();
-        if (value == null) {
-            Class<?> returnType = method.getReturnType();
-            Object rawNullValue = NullValues.nullValueOf(returnType);
-            if (returnType.isPrimitive())
-                return rawNullValue;
-            
-            return returnType.cast(rawNullValue);
+    private static MethodHandle findGeneratedConstructor(Class<?> dataClass) {
+        if (!dataClass.isAnnotationPresent(NullableDataType.class))
+            return null;
+        
+        try {
+            val className      = dataClass.getName() + NullableDataGenerator.GENERATED_CLASS_SUFFIX;
+            val generatedClass = Class.forName(className, true, dataClass.getClassLoader());
+            val constructor    = MethodHandles.publicLookup().findConstructor(generatedClass, generatedConstructorType);
+            return constructor.asType(MethodType.methodType(Object.class, Supplier.class, Nullable.class));
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+            // Not compiled with the annotation processor -- use the proxy.
+            return null;
         }
+    }
+    
+    private static MethodHandle spinConstructor(Class<?> dataClass, Class<?> asNullableClass) {
+        if (!dataClass.isInterface() || !asNullableClass.isInterface())
+            return null;
+        
+        val spunClass = NullableDataClassSpinner.spin(dataClass, asNullableClass);
+        if (spunClass == null)
+            return null;
+        
+        try {
+            val constructor = MethodHandles.publicLookup().findConstructor(spunClass, generatedConstructorType);
+            return constructor.asType(MethodType.methodType(Object.class, Supplier.class, Nullable.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static <DATA> DATA newGeneratedNullableData(
+            MethodHandle             generatedConstructor,
+            Supplier<? extends DATA> valueSupplier,
+            Nullable<DATA>           nullable) {
+        val theNullable = NullableJ._orGet(nullable, ()->Nullable.from(valueSupplier));
+        try {
+            return (DATA)(Object)generatedConstructor.invokeExact((Supplier<?>)valueSupplier, (Nullable<?>)theNullable);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Unable to create the nullable data: " + e, e);
+        }
+    }
+    
+    /** What the nullable data proxy does when a method is called. */
+    private static enum ProxyAction {
+        SUPPLIED_VALUE, TO_STRING, HASH_CODE, EQUALS, AS_NULLABLE, DEFAULT_METHOD, NOTHING, DATA_METHOD;
+    }
+    
+    /** The precomputed dispatch of a method of the nullable data proxy. */
+    private static final class ProxyDispatch {
+        final ProxyAction action;
+        final Supplier<?> nullValue;
+        ProxyDispatch(ProxyAction action, Supplier<?> nullValue) {
+            this.action    = action;
+            this.nullValue = nullValue;
+        }
+    }
+    
+    /** The dispatch table of the methods of each interface (keyed by the declaring class of the methods). */
+    private static final ClassValue<Map<Method, ProxyDispatch>> proxyDispatches = new ClassValue<Map<Method, ProxyDispatch>>() {
+        @Override
+        protected Map<Method, ProxyDispatch> computeValue(Class<?> declaringClass) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    
+    private static ProxyDispatch proxyDispatchOf(Method method) {
+        val dispatches = proxyDispatches.get(method.getDeclaringClass());
+        val dispatch   = dispatches.get(method);
+        if (dispatch != null)
+            return dispatch;
+        
+        return dispatches.computeIfAbsent(method, NullableData::newProxyDispatch);
+    }
+    
+    private static ProxyDispatch newProxyDispatch(Method method) {
+        val name       = method.getName();
+        val paramCount = method.getParameterCount();
+        if ("get".equals(name))
+            return new ProxyDispatch(ProxyAction.SUPPLIED_VALUE, null);
+        if ("toString".equals(name) && (paramCount == 0))
+            return new ProxyDispatch(ProxyAction.TO_STRING, null);
+        if ("hashCode".equals(name) && (paramCount == 0))
+            return new ProxyDispatch(ProxyAction.HASH_CODE, null);
+        if ("equals".equals(name) && (paramCount == 1))
+            return new ProxyDispatch(ProxyAction.EQUALS, null);
+        if ("asNullable".equals(name) && (paramCount == 0))
+            return new ProxyDispatch(ProxyAction.AS_NULLABLE, null);
+        if (method.isDefault())
+            return new ProxyDispatch(ProxyAction.DEFAULT_METHOD, null);
+        if (IAsNullable.class == method.getDeclaringClass())
+            return new ProxyDispatch(ProxyAction.NOTHING, null);
+        
+        return new ProxyDispatch(ProxyAction.DATA_METHOD, nullValueSupplierOf(method.getReturnType()));
+    }
+    
+    private static Supplier<?> nullValueSupplierOf(Class<?> returnType) {
+        if (returnType == void.class)
+            return nullSupplier;
+        
+        // The null values of primitive types are immutable so they can be computed right away,
+        //   the others may be a new object each time so they are resolved (from the cache of NullValues) on every call.
+        if (returnType.isPrimitive()) {
+            val nullValue = NullValues.nullValueOf(returnType);
+            return ()->nullValue;
+        }
+        return ()->returnType.cast(NullValues.nullValueOf(returnType));
+    }
+    
+    private static Object invokeNullableProxy(Nullable<?> nullable, ProxyDispatch dispatch, Method method, Object[] args)
+            throws IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+        val value = nullable.get();
+        if (value == null)
+            return dispatch.nullValue.get();
         
         return method.invoke(value, args);
     }
@@ -235,38 +409,29 @@ public class NullableData {
             Nullable<DATA> nullable) {
         val theNullable = NullableJ._orGet(nullable, ()->Nullable.from(valueSupplier));
         val handler = (InvocationHandler)(proxy, method, methodArgs) -> {
-            if ("get".equals(method.getName()))
-                return valueSupplier.get();
-            if ("toString".equals(method.getName()) && (method.getParameterCount() == 0))
-                return dataClass.getSimpleName() + "=null";
-            if ("hashCode".equals(method.getName()) && (method.getParameterCount() == 0))
-                return dataClass.hashCode();
-            if ("equals".equals(method.getName()) && (method.getParameterCount() == 1)) {
-                if (methodArgs[0] == null)
-                    return true;
-                if (methodArgs[0] == proxy)
-                    return true;
-                if (dataClass != methodArgs[0].getClass())
-                    return false;
-                if (!Nullable.class.isAssignableFrom(methodArgs[0].getClass()))
-                    return false;
-                @SuppressWarnings("rawtypes")
-                boolean isPresent = ((Nullable)proxy).isPresent();
-                return !isPresent;
-            }
-            
-            if ("asNullable".equals(method.getName()) && (method.getParameterCount() == 0))
-                return theNullable;
-            
-            if (method.isDefault()) {
-                return invokeDefaultMethod(proxy, method, methodArgs);
+            val dispatch = proxyDispatchOf(method);
+            switch (dispatch.action) {
+                case SUPPLIED_VALUE: return valueSupplier.get();
+                case TO_STRING:      return dataClass.getSimpleName() + "=null";
+                case HASH_CODE:      return dataClass.hashCode();
+                case EQUALS: {
+                    if (methodArgs[0] == null)
+                        return true;
+                    if (methodArgs[0] == proxy)
+                        return true;
+                    if (dataClass != methodArgs[0].getClass())
+                        return false;
+                    if (!Nullable.class.isAssignableFrom(methodArgs[0].getClass()))
+                        return false;
+                    @SuppressWarnings("rawtypes")
+                    boolean isPresent = ((Nullable)proxy).isPresent();
+                    return !isPresent;
+                }
+                case AS_NULLABLE:    return theNullable;
+                case DEFAULT_METHOD: return invokeDefaultMethod(proxy, method, methodArgs);
+                case DATA_METHOD:    return invokeNullableProxy(theNullable, dispatch, method, methodArgs);
+                default:             return null;
             }
-            
-            boolean isICanBeNullableMethod = IAsNullable.class == method.getDeclaringClass();
-            if (!isICanBeNullableMethod)
-                return invokeNullableProxy(proxy, method, methodArgs);
-            
-            return null;
         };
         return handler;
     }
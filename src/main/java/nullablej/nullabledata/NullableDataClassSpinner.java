@@ -0,0 +1,650 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.nullabledata;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import lombok.val;
+import nullablej.nullable.IAsNullable;
+import nullablej.nullable.Nullable;
+
+/**
+ * This class creates (spins) the nullable data class of data interfaces at runtime.
+ * 
+ * The spun class extends {@link AbstractNullableData} and implements the abstract methods of the interfaces
+ *   by calling the method of the value directly (no reflection)
+ *   or by returning the null value of the return type if the value is null.
+ * The class is defined in its own class loader (a child of the data interface class loader)
+ *   so it goes away together with the data interface.
+ * 
+ * Only public interfaces with public types can be spun --
+ *   {@link #spin(Class, Class)} returns null for others and the dynamic proxy should be used instead.
+ * 
+ * @author NawaMan -- nawa@nawaman.net
+ */
+final class NullableDataClassSpinner {
+    
+    private static final String SPUN_PACKAGE = "nullablej.nullabledata.spun.";
+    
+    private static final String BASE_CLASS        = internalName(AbstractNullableData.class);
+    private static final String BASE_CONSTRUCTOR  = "(Ljava/lang/Class;Ljava/util/function/Supplier;Lnullablej/nullable/Nullable;)V";
+    private static final String SPUN_CONSTRUCTOR  = "(Ljava/util/function/Supplier;Lnullablej/nullable/Nullable;)V";
+    private static final String NULLABLE_VALUE    = "()Ljava/lang/Object;";
+    private static final String NULL_VALUE_OF     = "(Ljava/lang/Class;)Ljava/lang/Object;";
+    
+    private static final int CLASS_VERSION = 49;    // No stack map frame is needed for this version.
+    
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_FINAL  = 0x0010;
+    private static final int ACC_SUPER  = 0x0020;
+    
+    private static final int ALOAD_0         = 0x2A;
+    private static final int ALOAD_1         = 0x2B;
+    private static final int ALOAD_2         = 0x2C;
+    private static final int ILOAD           = 0x15;
+    private static final int LLOAD           = 0x16;
+    private static final int FLOAD           = 0x17;
+    private static final int DLOAD           = 0x18;
+    private static final int ALOAD           = 0x19;
+    private static final int IRETURN         = 0xAC;
+    private static final int LRETURN         = 0xAD;
+    private static final int FRETURN         = 0xAE;
+    private static final int DRETURN         = 0xAF;
+    private static final int ARETURN         = 0xB0;
+    private static final int RETURN          = 0xB1;
+    private static final int POP             = 0x57;
+    private static final int DUP             = 0x59;
+    private static final int LDC_W           = 0x13;
+    private static final int GETSTATIC       = 0xB2;
+    private static final int INVOKEVIRTUAL   = 0xB6;
+    private static final int INVOKESPECIAL   = 0xB7;
+    private static final int INVOKESTATIC    = 0xB8;
+    private static final int INVOKEINTERFACE = 0xB9;
+    private static final int CHECKCAST       = 0xC0;
+    private static final int IFNONNULL       = 0xC7;
+    
+    private static final AtomicInteger counter = new AtomicInteger();
+    
+    private NullableDataClassSpinner() {
+    }
+    
+    /**
+     * Spin the nullable data class for the given data interface and the as-nullable interface.
+     * 
+     * The spun class has a public constructor taking the value supplier ({@link Supplier}) and the nullable ({@link Nullable}).
+     * 
+     * @param dataClass        the data interface.
+     * @param asNullableClass  the as-nullable interface -- use {@link IAsNullable} if there is none.
+     * @return  the spun class or null if the class cannot be spun for the interfaces.
+     */
+    static Class<?> spin(Class<?> dataClass, Class<?> asNullableClass) {
+        try {
+            return new Spinning(dataClass, asNullableClass).spin();
+        } catch (RuntimeException | IOException | LinkageError e) {
+            return null;
+        }
+    }
+    
+    //== Class spinning ==
+    
+    private static final class Spinning {
+        
+        private final Class<?>              dataClass;
+        private final Class<?>              asNullableClass;
+        private final Class<?>              nameClass;
+        private final String                className;
+        private final ConstantPool          pool    = new ConstantPool();
+        private final Map<String, Class<?>> classes = new HashMap<>();
+        
+        Spinning(Class<?> dataClass, Class<?> asNullableClass) {
+            this.dataClass       = dataClass;
+            this.asNullableClass = asNullableClass;
+            this.nameClass       = (asNullableClass == IAsNullable.class) ? dataClass : asNullableClass;
+            this.className       = SPUN_PACKAGE + nameClass.getName().replace('.', '_') + "$NullableData$" + counter.incrementAndGet();
+        }
+        
+        Class<?> spin() throws IOException {
+            if (!isAccessible(dataClass) || !isAccessible(asNullableClass))
+                return null;
+            
+            val methods = abstractMethods();
+            if (methods == null)
+                return null;
+            
+            registerClass(AbstractNullableData.class);
+            registerClass(dataClass);
+            registerClass(asNullableClass);
+            
+            val methodBytes = new ByteArrayOutputStream();
+            val methodOut   = new DataOutputStream(methodBytes);
+            writeConstructor(methodOut);
+            for (val method : methods) {
+                writeMethod(methodOut, method);
+            }
+            
+            val thisIndex  = pool.classRef(internalName(className));
+            val superIndex = pool.classRef(BASE_CLASS);
+            val interfaces = new LinkedHashSet<Integer>();
+            interfaces.add(pool.classRef(internalName(dataClass)));
+            interfaces.add(pool.classRef(internalName(asNullableClass)));
+            
+            val classBytes = new ByteArrayOutputStream();
+            val out        = new DataOutputStream(classBytes);
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(CLASS_VERSION);
+            pool.writeTo(out);
+            out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+            out.writeShort(thisIndex);
+            out.writeShort(superIndex);
+            out.writeShort(interfaces.size());
+            for (val interfaceIndex : interfaces) {
+                out.writeShort(interfaceIndex);
+            }
+            out.writeShort(0);                  // fields
+            out.writeShort(methods.size() + 1); // methods + constructor
+            methodOut.flush();
+            out.write(methodBytes.toByteArray());
+            out.writeShort(0);                  // attributes
+            out.flush();
+            
+            val classLoader = new SpunClassLoader(dataClass.getClassLoader(), classes);
+            return classLoader.define(className, classBytes.toByteArray());
+        }
+        
+        private void registerClass(Class<?> clzz) {
+            while (clzz.isArray())
+                clzz = clzz.getComponentType();
+            if (!clzz.isPrimitive())
+                classes.put(clzz.getName(), clzz);
+        }
+        
+        //== Method collection ==
+        
+        /** Returns the methods to be implemented or null if some of them cannot be implemented. */
+        private List<Method> abstractMethods() {
+            val declarations = new LinkedHashMap<String, List<Method>>();
+            val visited      = new LinkedHashSet<Class<?>>();
+            collectMethods(dataClass,       visited, declarations);
+            collectMethods(asNullableClass, visited, declarations);
+            
+            val methods = new ArrayList<Method>();
+            for (val entry : declarations.entrySet()) {
+                val mostSpecifics = mostSpecifics(entry.getValue());
+                if ((mostSpecifics.size() == 1) && mostSpecifics.get(0).isDefault())
+                    continue;
+                
+                val method = mostSpecifics.get(0);
+                if (isImplementedByBaseClass(method))
+                    continue;
+                if (isAsNullableMethod(method)) {
+                    if (!isAccessible(method.getReturnType()))
+                        return null;
+                    methods.add(method);
+                    continue;
+                }
+                
+                Method abstractMethod = null;
+                for (val each : mostSpecifics) {
+                    if (!each.isDefault()) {
+                        abstractMethod = each;
+                        break;
+                    }
+                }
+                if (abstractMethod == null)
+                    abstractMethod = method;
+                
+                if (!isAccessible(abstractMethod.getDeclaringClass()) || !isAccessible(abstractMethod.getReturnType()))
+                    return null;
+                for (val paramType : abstractMethod.getParameterTypes()) {
+                    if (!isAccessible(paramType))
+                        return null;
+                }
+                methods.add(abstractMethod);
+            }
+            return methods;
+        }
+        
+        private void collectMethods(Class<?> theInterface, Set<Class<?>> visited, Map<String, List<Method>> declarations) {
+            if (!visited.add(theInterface))
+                return;
+            
+            for (val method : theInterface.getDeclaredMethods()) {
+                val modifiers = method.getModifiers();
+                if (Modifier.isStatic(modifiers) || !Modifier.isPublic(modifiers))
+                    continue;
+                
+                val key = method.getName() + methodDescriptor(method);
+                declarations.computeIfAbsent(key, k -> new ArrayList<>()).add(method);
+            }
+            for (val superInterface : theInterface.getInterfaces()) {
+                collectMethods(superInterface, visited, declarations);
+            }
+        }
+        
+        private List<Method> mostSpecifics(List<Method> declarations) {
+            val mostSpecifics = new ArrayList<Method>();
+            for (val method : declarations) {
+                boolean isOverridden = false;
+                for (val other : declarations) {
+                    val declaringClass = method.getDeclaringClass();
+                    val otherClass     = other.getDeclaringClass();
+                    if ((declaringClass != otherClass) && declaringClass.isAssignableFrom(otherClass)) {
+                        isOverridden = true;
+                        break;
+                    }
+                }
+                if (!isOverridden)
+                    mostSpecifics.add(method);
+            }
+            return mostSpecifics;
+        }
+        
+        private boolean isImplementedByBaseClass(Method method) {
+            val name       = method.getName();
+            val paramCount = method.getParameterCount();
+            if ("toString".equals(name) && (paramCount == 0))
+                return true;
+            if ("hashCode".equals(name) && (paramCount == 0))
+                return true;
+            if ("equals".equals(name) && (paramCount == 1) && (method.getParameterTypes()[0] == Object.class))
+                return true;
+            if (isAsNullableMethod(method) && (method.getReturnType() == Nullable.class))
+                return true;
+            return false;
+        }
+        
+        private boolean isAsNullableMethod(Method method) {
+            return "asNullable".equals(method.getName()) && (method.getParameterCount() == 0);
+        }
+        
+        private boolean isSupplierGetMethod(Method method) {
+            return "get".equals(method.getName())
+                && (method.getParameterCount() == 0)
+                && !method.getReturnType().isPrimitive();
+        }
+        
+        //== Code generation ==
+        
+        private void writeConstructor(DataOutputStream out) throws IOException {
+            val code = new Code(3, 4);
+            code.op(ALOAD_0);
+            code.op(LDC_W).u2(pool.classRef(internalName(nameClass)));
+            code.op(ALOAD_1);
+            code.op(ALOAD_2);
+            code.op(INVOKESPECIAL).u2(pool.methodRef(BASE_CLASS, "<init>", BASE_CONSTRUCTOR));
+            code.op(RETURN);
+            writeMethod(out, "<init>", SPUN_CONSTRUCTOR, code);
+        }
+        
+        private void writeMethod(DataOutputStream out, Method method) throws IOException {
+            val returnType = method.getReturnType();
+            val paramTypes = method.getParameterTypes();
+            registerClass(returnType);
+            registerClass(method.getDeclaringClass());
+            for (val paramType : paramTypes) {
+                registerClass(paramType);
+            }
+            
+            int argSlots = 0;
+            for (val paramType : paramTypes) {
+                argSlots += slotSize(paramType);
+            }
+            
+            val code = new Code(1 + argSlots, Math.max(argSlots + 1, 2) + 2);
+            if (isAsNullableMethod(method)) {
+                // The value is the nullable of the base class with a more specific type.
+                code.op(ALOAD_0);
+                code.op(INVOKEVIRTUAL).u2(pool.methodRef(BASE_CLASS, "asNullable", "()Lnullablej/nullable/Nullable;"));
+                code.op(CHECKCAST).u2(pool.classRef(internalName(returnType)));
+                code.op(ARETURN);
+            } else if (isSupplierGetMethod(method)) {
+                // Same as the dynamic proxy, 'get()' returns the value from the supplier.
+                code.op(ALOAD_0);
+                code.op(INVOKEVIRTUAL).u2(pool.methodRef(BASE_CLASS, "suppliedValue", NULLABLE_VALUE));
+                code.op(CHECKCAST).u2(pool.classRef(internalName(returnType)));
+                code.op(ARETURN);
+            } else {
+                writeDelegation(code, method, returnType, paramTypes, argSlots);
+            }
+            
+            writeMethod(out, method.getName(), methodDescriptor(method), code);
+        }
+        
+        private void writeDelegation(Code code, Method method, Class<?> returnType, Class<?>[] paramTypes, int argSlots) {
+            val declaringClass = method.getDeclaringClass();
+            
+            code.op(ALOAD_0);
+            code.op(INVOKEVIRTUAL).u2(pool.methodRef(BASE_CLASS, "nullableValue", NULLABLE_VALUE));
+            code.op(DUP);
+            val branch = code.branch(IFNONNULL);
+            
+            // The value is null.
+            code.op(POP);
+            if (returnType == void.class) {
+                code.op(RETURN);
+            } else if (returnType.isPrimitive()) {
+                val wrapper = wrapperOf(returnType);
+                code.op(GETSTATIC).u2(pool.fieldRef(internalName(wrapper), "TYPE", "Ljava/lang/Class;"));
+                code.op(INVOKESTATIC).u2(pool.methodRef(BASE_CLASS, "nullValueOf", NULL_VALUE_OF));
+                code.op(CHECKCAST).u2(pool.classRef(internalName(wrapper)));
+                code.op(INVOKEVIRTUAL).u2(pool.methodRef(internalName(wrapper), returnType.getName() + "Value", "()" + typeDescriptor(returnType)));
+                code.op(returnOp(returnType));
+            } else {
+                code.op(LDC_W).u2(pool.classRef(internalName(returnType)));
+                code.op(INVOKESTATIC).u2(pool.methodRef(BASE_CLASS, "nullValueOf", NULL_VALUE_OF));
+                code.op(CHECKCAST).u2(pool.classRef(internalName(returnType)));
+                code.op(ARETURN);
+            }
+            
+            // The value is not null -- call it.
+            code.target(branch);
+            code.op(CHECKCAST).u2(pool.classRef(internalName(declaringClass)));
+            int slot = 1;
+            for (val paramType : paramTypes) {
+                code.op(loadOp(paramType));
+                code.u1(slot);
+                slot += slotSize(paramType);
+            }
+            code.op(INVOKEINTERFACE).u2(pool.interfaceMethodRef(internalName(declaringClass), method.getName(), methodDescriptor(method)));
+            code.u1(1 + argSlots).u1(0);
+            code.op(returnOp(returnType));
+        }
+        
+        private void writeMethod(DataOutputStream out, String name, String descriptor, Code code) throws IOException {
+            val codeBytes = code.toByteArray();
+            out.writeShort(ACC_PUBLIC);
+            out.writeShort(pool.utf8(name));
+            out.writeShort(pool.utf8(descriptor));
+            out.writeShort(1);   // attributes: Code
+            out.writeShort(pool.utf8("Code"));
+            out.writeInt(2 + 2 + 4 + codeBytes.length + 2 + 2);
+            out.writeShort(code.maxStack);
+            out.writeShort(code.maxLocals);
+            out.writeInt(codeBytes.length);
+            out.write(codeBytes);
+            out.writeShort(0);   // exception table
+            out.writeShort(0);   // attributes
+        }
+    }
+    
+    //== Class loader ==
+    
+    /** The class loader of the spun class -- it gives out the exact classes the spun class uses. */
+    private static final class SpunClassLoader extends ClassLoader {
+        
+        private final Map<String, Class<?>> classes;
+        
+        SpunClassLoader(ClassLoader parent, Map<String, Class<?>> classes) {
+            super(parent);
+            this.classes = classes;
+        }
+        
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            val clzz = classes.get(name);
+            if (clzz != null)
+                return clzz;
+            
+            return super.loadClass(name, resolve);
+        }
+        
+        Class<?> define(String name, byte[] bytes) {
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+    
+    //== Constant pool ==
+    
+    private static final class ConstantPool {
+        
+        private final Map<String, Integer>  indexes = new HashMap<>();
+        private final ByteArrayOutputStream bytes   = new ByteArrayOutputStream();
+        private final DataOutputStream      out     = new DataOutputStream(bytes);
+        private int count = 1;
+        
+        int utf8(String value) {
+            return entry("U" + value, () -> {
+                out.writeByte(1);
+                out.writeUTF(value);
+            });
+        }
+        
+        int classRef(String internalName) {
+            val nameIndex = utf8(internalName);
+            return entry("C" + internalName, () -> {
+                out.writeByte(7);
+                out.writeShort(nameIndex);
+            });
+        }
+        
+        int nameAndType(String name, String descriptor) {
+            val nameIndex       = utf8(name);
+            val descriptorIndex = utf8(descriptor);
+            return entry("N" + name + ":" + descriptor, () -> {
+                out.writeByte(12);
+                out.writeShort(nameIndex);
+                out.writeShort(descriptorIndex);
+            });
+        }
+        
+        int fieldRef(String owner, String name, String descriptor) {
+            return memberRef(9, owner, name, descriptor);
+        }
+        
+        int methodRef(String owner, String name, String descriptor) {
+            return memberRef(10, owner, name, descriptor);
+        }
+        
+        int interfaceMethodRef(String owner, String name, String descriptor) {
+            return memberRef(11, owner, name, descriptor);
+        }
+        
+        private int memberRef(int tag, String owner, String name, String descriptor) {
+            val classIndex       = classRef(owner);
+            val nameAndTypeIndex = nameAndType(name, descriptor);
+            return entry(tag + owner + "." + name + ":" + descriptor, () -> {
+                out.writeByte(tag);
+                out.writeShort(classIndex);
+                out.writeShort(nameAndTypeIndex);
+            });
+        }
+        
+        private int entry(String key, EntryWriter writer) {
+            val index = indexes.get(key);
+            if (index != null)
+                return index;
+            
+            try {
+                writer.write();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            val newIndex = count++;
+            indexes.put(key, newIndex);
+            return newIndex;
+        }
+        
+        void writeTo(DataOutputStream classOut) throws IOException {
+            out.flush();
+            classOut.writeShort(count);
+            classOut.write(bytes.toByteArray());
+        }
+    }
+    
+    @FunctionalInterface
+    private static interface EntryWriter {
+        void write() throws IOException;
+    }
+    
+    //== Byte code ==
+    
+    private static final class Code {
+        
+        final int maxLocals;
+        final int maxStack;
+        
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private byte[] patched = null;
+        private final List<int[]> branches = new ArrayList<>();
+        
+        Code(int maxLocals, int maxStack) {
+            this.maxLocals = maxLocals;
+            this.maxStack  = maxStack;
+        }
+        
+        Code op(int opcode) {
+            bytes.write(opcode);
+            return this;
+        }
+        
+        Code u1(int value) {
+            bytes.write(value);
+            return this;
+        }
+        
+        Code u2(int value) {
+            bytes.write((value >>> 8) & 0xFF);
+            bytes.write(value & 0xFF);
+            return this;
+        }
+        
+        /** Write the branch instruction and returns the branch to be given to {@link #target(int[])}. */
+        int[] branch(int opcode) {
+            val branch = new int[] { bytes.size(), -1 };
+            op(opcode).u2(0);
+            branches.add(branch);
+            return branch;
+        }
+        
+        /** Mark the current position as the target of the branch. */
+        void target(int[] branch) {
+            branch[1] = bytes.size();
+        }
+        
+        byte[] toByteArray() {
+            if (patched != null)
+                return patched;
+            
+            patched = bytes.toByteArray();
+            for (val branch : branches) {
+                val offset = branch[1] - branch[0];
+                patched[branch[0] + 1] = (byte)((offset >>> 8) & 0xFF);
+                patched[branch[0] + 2] = (byte)(offset & 0xFF);
+            }
+            return patched;
+        }
+    }
+    
+    //== Descriptors ==
+    
+    private static boolean isAccessible(Class<?> clzz) {
+        while (clzz.isArray())
+            clzz = clzz.getComponentType();
+        if (clzz.isPrimitive())
+            return true;
+        
+        for (Class<?> each = clzz; each != null; each = each.getEnclosingClass()) {
+            if (!Modifier.isPublic(each.getModifiers()))
+                return false;
+        }
+        // A public type in a package not exported by its module is still not accessible from the spun class.
+        return ModuleExports.isExported(clzz);
+    }
+    
+    private static String internalName(Class<?> clzz) {
+        return clzz.isArray() ? typeDescriptor(clzz) : internalName(clzz.getName());
+    }
+    
+    private static String internalName(String className) {
+        return className.replace('.', '/');
+    }
+    
+    private static String methodDescriptor(Method method) {
+        val buffer = new StringBuilder("(");
+        for (val paramType : method.getParameterTypes()) {
+            buffer.append(typeDescriptor(paramType));
+        }
+        return buffer.append(")").append(typeDescriptor(method.getReturnType())).toString();
+    }
+    
+    private static String typeDescriptor(Class<?> clzz) {
+        if (clzz.isArray())     return clzz.getName().replace('.', '/');
+        if (clzz == void.class)    return "V";
+        if (clzz == boolean.class) return "Z";
+        if (clzz == byte.class)    return "B";
+        if (clzz == char.class)    return "C";
+        if (clzz == short.class)   return "S";
+        if (clzz == int.class)     return "I";
+        if (clzz == long.class)    return "J";
+        if (clzz == float.class)   return "F";
+        if (clzz == double.class)  return "D";
+        return "L" + internalName(clzz.getName()) + ";";
+    }
+    
+    private static Class<?> wrapperOf(Class<?> primitive) {
+        if (primitive == boolean.class) return Boolean.class;
+        if (primitive == byte.class)    return Byte.class;
+        if (primitive == char.class)    return Character.class;
+        if (primitive == short.class)   return Short.class;
+        if (primitive == int.class)     return Integer.class;
+        if (primitive == long.class)    return Long.class;
+        if (primitive == float.class)   return Float.class;
+        return Double.class;
+    }
+    
+    private static int slotSize(Class<?> type) {
+        return ((type == long.class) || (type == double.class)) ? 2 : 1;
+    }
+    
+    private static int loadOp(Class<?> type) {
+        if (!type.isPrimitive())   return ALOAD;
+        if (type == long.class)    return LLOAD;
+        if (type == float.class)   return FLOAD;
+        if (type == double.class)  return DLOAD;
+        return ILOAD;
+    }
+    
+    private static int returnOp(Class<?> type) {
+        if (type == void.class)    return RETURN;
+        if (!type.isPrimitive())   return ARETURN;
+        if (type == long.class)    return LRETURN;
+        if (type == float.class)   return FRETURN;
+        if (type == double.class)  return DRETURN;
+        return IRETURN;
+    }
+    
+}
@@ -0,0 +1,302 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.nullabledata.processor;
+
+import static java.lang.String.format;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * This annotation processor generates the nullable data class for the interfaces annotated with {@link NullableDataType}.
+ * 
+ * The generated class is in the same package as the interface and named
+ *   with the binary simple name of the interface followed by {@link #GENERATED_CLASS_SUFFIX}.
+ * It extends {@code AbstractNullableData} and implements all the abstract methods of the interface
+ *   by delegating to the value or returning the null value of the return type when the value is null.
+ * 
+ * @author NawaMan -- nawa@nawaman.net
+ */
+public class NullableDataGenerator extends AbstractProcessor {
+    
+    /** The suffix of the name of the generated class. */
+    public static final String GENERATED_CLASS_SUFFIX = "$$NullableData";
+    
+    private static final String NULLABLE_DATA_TYPE      = NullableDataType.class.getSimpleName();
+    private static final String ABSTRACT_NULLABLE_DATA  = "nullablej.nullabledata.AbstractNullableData";
+    private static final String I_AS_NULLABLE           = "nullablej.nullable.IAsNullable";
+    private static final String NULLABLE                = "nullablej.nullable.Nullable";
+    
+    private Messager messager;
+    private Elements elements;
+    private Types    types;
+    
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        messager = processingEnv.getMessager();
+        elements = processingEnv.getElementUtils();
+        types    = processingEnv.getTypeUtils();
+    }
+    
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        Set<String> annotations = new LinkedHashSet<String>();
+        annotations.add(NullableDataType.class.getCanonicalName());
+        return annotations;
+    }
+    
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+    
+    private void error(Element e, String msg) {
+        messager.printMessage(Diagnostic.Kind.ERROR, msg, e);
+    }
+    
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(NullableDataType.class)) {
+            if (element.getKind() != ElementKind.INTERFACE) {
+                error(element, format("Only interfaces can be annotated with @%s!", NULLABLE_DATA_TYPE));
+                continue;
+            }
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                error(element, format("Private interfaces cannot be annotated with @%s!", NULLABLE_DATA_TYPE));
+                continue;
+            }
+            
+            TypeElement dataElement = (TypeElement)element;
+            if (!isValidAsNullable(dataElement)) {
+                error(element, format("Interfaces annotated with @%s can only be IAsNullable of itself!", NULLABLE_DATA_TYPE));
+                continue;
+            }
+            
+            try {
+                generate(dataElement);
+            } catch (IOException e) {
+                error(element, format("Unable to generate the nullable data class: %s", e));
+            }
+        }
+        return false;
+    }
+    
+    private boolean isValidAsNullable(TypeElement dataElement) {
+        TypeElement asNullableElement = elements.getTypeElement(I_AS_NULLABLE);
+        TypeMirror  dataType          = dataElement.asType();
+        if (!types.isSubtype(types.erasure(dataType), types.erasure(asNullableElement.asType())))
+            return true;
+        
+        DeclaredType asNullableOfData = types.getDeclaredType(asNullableElement, dataType);
+        return types.isSubtype(dataType, asNullableOfData);
+    }
+    
+    private void generate(TypeElement dataElement) throws IOException {
+        PackageElement packageElement = elements.getPackageOf(dataElement);
+        String packageName   = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        String binaryName    = elements.getBinaryName(dataElement).toString();
+        String simpleName    = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        String className     = simpleName + GENERATED_CLASS_SUFFIX;
+        String dataName      = dataElement.getQualifiedName().toString();
+        String typeParams    = typeParameters(dataElement.getTypeParameters());
+        String typeArgs      = typeArguments(dataElement.getTypeParameters());
+        String dataType      = dataName + typeArgs;
+        String fullClassName = packageName.isEmpty() ? className : (packageName + "." + className);
+        
+        JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(fullClassName, dataElement);
+        try (PrintWriter out = new PrintWriter(sourceFile.openWriter())) {
+            if (!packageName.isEmpty()) {
+                out.println("package " + packageName + ";");
+                out.println();
+            }
+            out.println("/** Generated nullable data class of {@link " + dataName + "}. */");
+            out.println("@SuppressWarnings({ \"unchecked\", \"rawtypes\" })");
+            out.println("public class " + className + typeParams);
+            out.println("        extends " + ABSTRACT_NULLABLE_DATA + "<" + dataType + ">");
+            out.println("        implements " + dataType + " {");
+            out.println("    ");
+            out.println("    public " + className + "(java.util.function.Supplier<? extends " + dataType + "> valueSupplier, " + NULLABLE + "<" + dataType + "> nullable) {");
+            out.println("        super(" + dataName + ".class, valueSupplier, nullable);");
+            out.println("    }");
+            
+            for (ExecutableElement method : abstractMethods(dataElement)) {
+                out.println("    ");
+                generateMethod(out, (DeclaredType)dataElement.asType(), dataType, method);
+            }
+            
+            out.println("    ");
+            out.println("}");
+        }
+    }
+    
+    private List<ExecutableElement> abstractMethods(TypeElement dataElement) {
+        TypeElement objectElement = elements.getTypeElement(Object.class.getCanonicalName());
+        List<ExecutableElement> methods = new ArrayList<ExecutableElement>();
+        for (Element member : elements.getAllMembers(dataElement)) {
+            if (member.getKind() != ElementKind.METHOD)
+                continue;
+            if (!member.getModifiers().contains(Modifier.ABSTRACT))
+                continue;
+            
+            ExecutableElement method = (ExecutableElement)member;
+            if (isObjectMethod(objectElement, method))
+                continue;
+            if (isAsNullableMethod(method))
+                continue;
+            
+            methods.add(method);
+        }
+        return methods;
+    }
+    
+    private boolean isObjectMethod(TypeElement objectElement, ExecutableElement method) {
+        for (Element objectMember : objectElement.getEnclosedElements()) {
+            if (objectMember.getSimpleName().equals(method.getSimpleName())
+             && (objectMember.getKind() == ElementKind.METHOD)
+             && types.isSameType(types.erasure(objectMember.asType()), types.erasure(method.asType())))
+                return true;
+        }
+        return false;
+    }
+    
+    private boolean isAsNullableMethod(ExecutableElement method) {
+        return method.getSimpleName().contentEquals("asNullable")
+            && method.getParameters().isEmpty();
+    }
+    
+    private void generateMethod(PrintWriter out, DeclaredType dataType, String dataTypeName, ExecutableElement method) {
+        ExecutableType methodType = (ExecutableType)types.asMemberOf(dataType, method);
+        TypeMirror     returnType = methodType.getReturnType();
+        String         methodName = method.getSimpleName().toString();
+        List<? extends TypeMirror> paramTypes = methodType.getParameterTypes();
+        
+        StringBuilder params = new StringBuilder();
+        StringBuilder args   = new StringBuilder();
+        for (int i = 0; i < paramTypes.size(); i++) {
+            if (i != 0) {
+                params.append(", ");
+                args  .append(", ");
+            }
+            params.append(paramTypes.get(i)).append(" arg").append(i);
+            args  .append("arg").append(i);
+        }
+        
+        StringBuilder throwsClause = new StringBuilder();
+        for (TypeMirror thrownType : methodType.getThrownTypes()) {
+            throwsClause.append((throwsClause.length() == 0) ? " throws " : ", ").append(thrownType);
+        }
+        
+        String typeParams = typeParameters(method.getTypeParameters());
+        String signature  = (typeParams.isEmpty() ? "" : typeParams + " ") + returnType + " " + methodName + "(" + params + ")" + throwsClause;
+        boolean isVoid    = (returnType.getKind() == TypeKind.VOID);
+        
+        out.println("    @Override");
+        out.println("    public " + signature + " {");
+        if (isSupplierGetMethod(dataType, methodName, paramTypes, returnType)) {
+            // Same as the dynamic proxy, 'get()' returns the value from the supplier.
+            out.println("        return (" + returnType + ")suppliedValue();");
+            out.println("    }");
+            return;
+        }
+        
+        out.println("        final " + dataTypeName + " value = nullableValue();");
+        out.println("        if (value == null)");
+        if (isVoid) {
+            out.println("            return;");
+            out.println("        value." + methodName + "(" + args + ");");
+        } else {
+            out.println("            return (" + returnType + ")nullValueOf(" + types.erasure(returnType) + ".class);");
+            out.println("        return value." + methodName + "(" + args + ");");
+        }
+        out.println("    }");
+    }
+    
+    private boolean isSupplierGetMethod(DeclaredType dataType, String methodName, List<? extends TypeMirror> paramTypes, TypeMirror returnType) {
+        return "get".equals(methodName)
+            && paramTypes.isEmpty()
+            && (returnType.getKind() == TypeKind.DECLARED || returnType.getKind() == TypeKind.TYPEVAR)
+            && types.isAssignable(dataType, returnType);
+    }
+    
+    private static String typeParameters(List<? extends TypeParameterElement> typeParameters) {
+        if (typeParameters.isEmpty())
+            return "";
+        
+        StringBuilder buffer = new StringBuilder("<");
+        for (TypeParameterElement typeParameter : typeParameters) {
+            if (buffer.length() != 1)
+                buffer.append(", ");
+            
+            buffer.append(typeParameter.getSimpleName());
+            
+            List<? extends TypeMirror> bounds = typeParameter.getBounds();
+            boolean isObjectBound = (bounds.size() == 1) && "java.lang.Object".equals(bounds.get(0).toString());
+            if (!bounds.isEmpty() && !isObjectBound) {
+                for (int i = 0; i < bounds.size(); i++) {
+                    buffer.append((i == 0) ? " extends " : " & ").append(bounds.get(i));
+                }
+            }
+        }
+        return buffer.append(">").toString();
+    }
+    
+    private static String typeArguments(List<? extends TypeParameterElement> typeParameters) {
+        if (typeParameters.isEmpty())
+            return "";
+        
+        StringBuilder buffer = new StringBuilder("<");
+        for (TypeParameterElement typeParameter : typeParameters) {
+            if (buffer.length() != 1)
+                buffer.append(", ");
+            buffer.append(typeParameter.getSimpleName());
+        }
+        return buffer.append(">").toString();
+    }
+    
+}
@@ -23,6 +23,7 @@
 package nullablej.nullvalue;
 
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import nullablej._internal.Default;
 import nullablej.nullvalue.processor.NullValue;
@@ -54,6 +55,22 @@ public interface IFindNullValue {
      */
     public <TYPE> TYPE findNullValueOf(Class<TYPE> clzz);
     
+    /**
+     * Find the supplier of the null value given the class.
+     * 
+     * The returned supplier is meant to be kept and called again for the same class
+     *   so implementations should do the expensive look up once, here.
+     * The supplier returns null if the null value cannot be found for the time it is called.
+     * The default implementation simply calls {@link #findNullValueOf(Class)} every time.
+     * 
+     * @param clzz  the class.
+     * @return  the supplier of the null value or null if this finder knows it will not find one.
+     * @param <TYPE>  the type of the object.
+     */
+    public default <TYPE> Supplier<TYPE> findNullValueSupplierOf(Class<TYPE> clzz) {
+        return ()->findNullValueOf(clzz);
+    }
+    
     /**
      * Return this object as a function.
      * 
@@ -22,10 +22,13 @@
 
 package nullablej.nullvalue;
 
+import java.util.function.Supplier;
+
 import lombok.val;
 import nullablej.nullvalue.strategies.AnnotatedFieldFinder;
 import nullablej.nullvalue.strategies.AnnotatedMethodFinder;
 import nullablej.nullvalue.strategies.DefaultConstructorFinder;
+import nullablej.nullvalue.strategies.IndexedNullValueFinder;
 import nullablej.nullvalue.strategies.KnownNewNullValuesFinder;
 import nullablej.nullvalue.strategies.KnownNullValuesFinder;
 import nullablej.nullvalue.strategies.NamedFieldFinder;
@@ -62,6 +65,7 @@ public class NullValues implements IFindNullValue {
     
     protected final KnownNullValuesFinder    knownNullFinder          = new KnownNullValuesFinder();
     protected final KnownNewNullValuesFinder KnownNewNullValuesFinder = new KnownNewNullValuesFinder();
+    protected final IndexedNullValueFinder   indexedFinder            = new IndexedNullValueFinder();
     protected final AnnotatedFieldFinder     annotatedFieldFinder     = new AnnotatedFieldFinder(NULL_VALUE_ANNOTTION_NAME);
     protected final AnnotatedMethodFinder    annotatedMethodFinder    = new AnnotatedMethodFinder(NULL_VALUE_ANNOTTION_NAME);
     protected final NamedFieldFinder         namedFieldFinder1        = new NamedFieldFinder(NULL_VALUE_FIELD_NAME1);
@@ -95,48 +99,71 @@ public class NullValues implements IFindNullValue {
         return nullObj;
     }
     
+    /** The resolution (the compiled supplier of the null value) of each class. */
+    private final ClassValue<Resolution> resolutions = new ClassValue<Resolution>() {
+        @Override
+        protected Resolution computeValue(Class<?> type) {
+            return new Resolution();
+        }
+    };
+    
+    /** The supplier to be remembered for classes that has no null value. */
+    private static final Supplier<Object> NOT_FOUND = ()->null;
+    
+    /** Holder of the supplier compiled from the finder that was found to produce the null value of a class. */
+    private static final class Resolution {
+        volatile Supplier<?> supplier;
+    }
+    
+    /**
+     * Returns the finders in the order they are tried.
+     * 
+     * @return  the finders.
+     */
+    protected IFindNullValue[] finders() {
+        return new IFindNullValue[] {
+            knownNullFinder,
+            KnownNewNullValuesFinder,
+            indexedFinder,
+            annotatedFieldFinder,
+            annotatedMethodFinder,
+            namedFieldFinder1,
+            namedFieldFinder2,
+            namedMethodFinder1,
+            namedMethodFinder2,
+            defaultConstructorFinder,
+            nullableInterfaceFinder
+        };
+    }
+    
+    @SuppressWarnings("unchecked")
     @Override
     public <T> T findNullValueOf(Class<T> clzz) {
-        val nullFromKnown = knownNullFinder.findNullValueOf(clzz);
-        if (nullFromKnown != null)
-            return nullFromKnown;
-        
-        val newKnowNullValue = KnownNewNullValuesFinder.findNullValueOf(clzz);
-        if (newKnowNullValue != null)
-            return newKnowNullValue;
-        
-        val valueFromAnnotatedField = annotatedFieldFinder.findNullValueOf(clzz);
-        if (valueFromAnnotatedField != null)
-            return valueFromAnnotatedField;
-        
-        val valueFromAnnotatedMethod = annotatedMethodFinder.findNullValueOf(clzz);
-        if (valueFromAnnotatedMethod != null)
-            return valueFromAnnotatedMethod;
-        
-       val valueFromNamedField1 = namedFieldFinder1.findNullValueOf(clzz);
-        if (valueFromNamedField1 != null)
-            return valueFromNamedField1;
-        
-        val valueFromNamedField2 = namedFieldFinder2.findNullValueOf(clzz);
-         if (valueFromNamedField2 != null)
-             return valueFromNamedField2;
-        
-        val valueFromNamedMethod1 = namedMethodFinder1.findNullValueOf(clzz);
-        if (valueFromNamedMethod1 != null)
-            return valueFromNamedMethod1;
-        
-        val valueFromNamedMethod2 = namedMethodFinder2.findNullValueOf(clzz);
-        if (valueFromNamedMethod2 != null)
-            return valueFromNamedMethod2;
+        val resolution = resolutions.get(clzz);
+        val supplier   = resolution.supplier;
+        if (supplier == NOT_FOUND)
+            return null;
         
-        val valueFromDefaultConstructor = defaultConstructorFinder.findNullValueOf(clzz);
-        if (valueFromDefaultConstructor != null)
-            return valueFromDefaultConstructor;
+        if (supplier != null) {
+            val value = supplier.get();
+            if (value != null)
+                return (T)value;
+        }
         
-        val valueFromNullableInterface = nullableInterfaceFinder.findNullValueOf(clzz);
-        if (valueFromNullableInterface != null)
-            return valueFromNullableInterface;
+        // First time for this class (or the remembered supplier stop producing value) -- go through all the finders.
+        for (val finder : finders()) {
+            val finderSupplier = finder.findNullValueSupplierOf(clzz);
+            if (finderSupplier == null)
+                continue;
+            
+            val value = finderSupplier.get();
+            if (value != null) {
+                resolution.supplier = finderSupplier;
+                return value;
+            }
+        }
         
+        resolution.supplier = NOT_FOUND;
         return null;
     }
     
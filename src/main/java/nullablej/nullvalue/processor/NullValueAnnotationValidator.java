@@ -26,8 +26,14 @@ import static java.lang.String.format;
 import static javax.lang.model.element.ElementKind.FIELD;
 import static javax.lang.model.element.ElementKind.METHOD;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 import javax.annotation.processing.AbstractProcessor;
@@ -40,27 +46,43 @@ import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.Modifier;
+import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
 import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
 
 /**
  * This annotation process ensures that {@link NullValue} is only annotated to public, static, final fields or methods.
  * 
+ * The valid elements are also written to the null-value index ({@link #INDEX_RESOURCE_NAME})
+ *   so that the null value can be found at runtime without scanning the class for the annotation.
+ * Each line of the index is in the format of {@code <class-binary-name>=field:<name>} or {@code <class-binary-name>=method:<name>}.
+ * 
  * @author NawaMan -- nawa@nawaman.net
  */
 @SupportedAnnotationTypes("nullablej.nullvalue.processor.NullValue")
 @SupportedSourceVersion(SourceVersion.RELEASE_8)
 public class NullValueAnnotationValidator extends AbstractProcessor {
     
+    /** The name of the resource of the null-value index. */
+    public static final String INDEX_RESOURCE_NAME = "META-INF/nullablej/null-values";
+    
     private static final String               NULL_VALUE        = NullValue.class.getSimpleName();
     private static final EnumSet<ElementKind> FIELDS_OR_METHODS = EnumSet.of(FIELD, METHOD);
     
+    private ProcessingEnvironment processingEnv;
     private Messager messager;
     private boolean hasError;
     
+    private final List<String> indexEntries    = new ArrayList<String>();
+    private final Set<String>  compiledClasses = new HashSet<String>();
+    
     @Override
     public synchronized void init(ProcessingEnvironment processingEnv) {
-        messager = processingEnv.getMessager();
+        this.processingEnv = processingEnv;
+        this.messager      = processingEnv.getMessager();
     }
     
     @Override
@@ -83,7 +105,14 @@ public class NullValueAnnotationValidator extends AbstractProcessor {
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
         hasError = false;
+        for (Element element : roundEnv.getRootElements()) {
+            if (element instanceof TypeElement)
+                compiledClasses.add(processingEnv.getElementUtils().getBinaryName((TypeElement)element).toString());
+        }
         for (Element element : roundEnv.getElementsAnnotatedWith(NullValue.class)) {
+            boolean hadError = hasError;
+            hasError = false;
+            
             if (!FIELDS_OR_METHODS.contains(element.getKind())) {
                 error(element, format("Only fields or methods can be annotated with @%s!", NULL_VALUE));
             }
@@ -94,10 +123,86 @@ public class NullValueAnnotationValidator extends AbstractProcessor {
             if (element.getKind() == FIELD) {
                 ensureModifier(element, Modifier.FINAL);
             }
+            
+            if (!hasError)
+                addIndexEntry(element);
+            
+            hasError |= hadError;
         }
+        
+        if (roundEnv.processingOver())
+            writeIndex();
+        
         return hasError;
     }
     
+    private void addIndexEntry(Element element) {
+        if ((element.getKind() == METHOD) && !((ExecutableElement)element).getParameters().isEmpty())
+            return;
+        
+        Element enclosing = element.getEnclosingElement();
+        if (!(enclosing instanceof TypeElement))
+            return;
+        
+        Elements elements  = processingEnv.getElementUtils();
+        String   className = elements.getBinaryName((TypeElement)enclosing).toString();
+        String   kind      = (element.getKind() == FIELD) ? "field" : "method";
+        indexEntries.add(className + "=" + kind + ":" + element.getSimpleName());
+    }
+    
+    private void writeIndex() {
+        // An incremental compilation only sees some classes -- keep the existing entries of the others.
+        List<String> existingEntries = readExistingIndex();
+        Set<String>  mergedEntries   = new LinkedHashSet<String>();
+        for (String entry : existingEntries) {
+            if (!isCompiled(entry.substring(0, entry.indexOf('='))))
+                mergedEntries.add(entry);
+        }
+        mergedEntries.addAll(indexEntries);
+        
+        if (!mergedEntries.isEmpty() || !existingEntries.isEmpty()) {
+            try {
+                FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_RESOURCE_NAME);
+                try (PrintWriter writer = new PrintWriter(file.openWriter())) {
+                    for (String entry : mergedEntries) {
+                        writer.println(entry);
+                    }
+                }
+            } catch (IOException e) {
+                messager.printMessage(Diagnostic.Kind.WARNING, format("Unable to write the null-value index: %s", e));
+            }
+        }
+        indexEntries.clear();
+        compiledClasses.clear();
+    }
+    
+    private List<String> readExistingIndex() {
+        List<String> entries = new ArrayList<String>();
+        try {
+            FileObject file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_RESOURCE_NAME);
+            try (BufferedReader reader = new BufferedReader(file.openReader(true))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (line.indexOf('=') > 0)
+                        entries.add(line);
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // No existing index.
+        }
+        return entries;
+    }
+    
+    private boolean isCompiled(String className) {
+        if (compiledClasses.contains(className))
+            return true;
+        
+        // Nested classes are compiled with their top-level class.
+        int nestedIndex = className.indexOf('$');
+        return (nestedIndex > 0) && compiledClasses.contains(className.substring(0, nestedIndex));
+    }
+    
     private void ensureModifier(Element element, Modifier modifier) {
         if (element.getModifiers().contains(modifier))
             return;
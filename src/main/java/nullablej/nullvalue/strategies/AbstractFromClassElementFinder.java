@@ -24,10 +24,14 @@ package nullablej.nullvalue.strategies;
 
 
 import static nullablej.utils.reflection.UReflection.isPublicStaticFinalAndCompatible;
+import static nullablej.utils.reflection.UReflection.staticMethodSupplierOrNull;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import lombok.val;
 import lombok.experimental.ExtensionMethod;
@@ -72,4 +76,66 @@ public class AbstractFromClassElementFinder {
         }
         return null;
     }
+    
+    /**
+     * Create a supplier that returns the first non-null value from the selected methods.
+     * 
+     * The methods are selected the same way as {@link #getPublicStaticFinalCompatibleMethod(Class, Function)}
+     *   but they are compiled into method handles once so that the supplier does not use reflection.
+     * 
+     * @param clzz      the class.
+     * @param selector  the selector of the methods.
+     * @return  the supplier or null if there is no method selected.
+     * 
+     * @param <T>  the type of the class.
+     */
+    @SuppressWarnings("unchecked")
+    protected static final <T> Supplier<T> getPublicStaticFinalCompatibleMethodSupplier(Class<T> clzz, Predicate<Method> selector) {
+        if (!clzz.getTypeParameters()._isEmpty())
+            return null;
+        
+        val suppliers = new ArrayList<Supplier<T>>();
+        for (val method : clzz.getDeclaredMethods()) {
+            val type      = method.getReturnType();
+            val modifiers = method.getModifiers();
+            if (!isPublicStaticFinalAndCompatible(clzz, type, modifiers))
+                continue;
+            if (!selector.test(method))
+                continue;
+            
+            val supplier = staticMethodSupplierOrNull(method);
+            if (supplier._isNotNull())
+                suppliers.add((Supplier<T>)supplier);
+        }
+        
+        if (suppliers.isEmpty())
+            return null;
+        if (suppliers.size() == 1)
+            return suppliers.get(0);
+        
+        val supplierArray = suppliers.toArray(new Supplier[suppliers.size()]);
+        return ()->{
+            for (val supplier : supplierArray) {
+                val value = supplier.get();
+                if (value._isNotNull())
+                    return (T)value;
+            }
+            return null;
+        };
+    }
+    
+    /**
+     * Returns a supplier that always returns the given value or null if the value is null.
+     * 
+     * @param value  the value.
+     * @return  the supplier.
+     * 
+     * @param <T>  the type of the value.
+     */
+    protected static final <T> Supplier<T> constantSupplierOrNull(T value) {
+        if (value == null)
+            return null;
+        
+        return ()->value;
+    }
 }
@@ -26,6 +26,7 @@ import static nullablej.utils.reflection.UReflection.getValueFromStaticFieldOrNu
 import static nullablej.utils.reflection.UReflection.hasAnnotationWithName;
 
 import java.lang.annotation.Annotation;
+import java.util.function.Supplier;
 
 import lombok.NonNull;
 import lombok.val;
@@ -54,6 +55,12 @@ public class AnnotatedFieldFinder extends AbstractFromClassElementFinder impleme
         return findNullValueFromAnnotatedField(clzz, annotationName);
     }
     
+    @Override
+    public <OBJECT> Supplier<OBJECT> findNullValueSupplierOf(Class<OBJECT> clzz) {
+        // The field is final so its value can be kept.
+        return constantSupplierOrNull(findNullValueOf(clzz));
+    }
+    
     /**
      * Find null value by looking for annotated field of the given class.
      * 
@@ -26,6 +26,7 @@ import static nullablej.utils.reflection.UReflection.hasAnnotationWithName;
 import static nullablej.utils.reflection.UReflection.invokeStaticMethodOrNull;
 
 import java.lang.annotation.Annotation;
+import java.util.function.Supplier;
 
 import lombok.NonNull;
 import lombok.val;
@@ -54,6 +55,13 @@ public class AnnotatedMethodFinder extends AbstractFromClassElementFinder implem
         return findNullValueFromAnnotatedMethod(clzz, annotationName);
     }
     
+    @Override
+    public <OBJECT> Supplier<OBJECT> findNullValueSupplierOf(Class<OBJECT> clzz) {
+        return getPublicStaticFinalCompatibleMethodSupplier(clzz, method->{
+            return hasAnnotationWithName(method.getAnnotations(), annotationName);
+        });
+    }
+    
     /**
      * Find null value by looking for annotated method of the given class.
      * 
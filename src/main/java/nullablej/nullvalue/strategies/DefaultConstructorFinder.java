@@ -24,10 +24,11 @@ package nullablej.nullvalue.strategies;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import lombok.val;
+import nullablej.utils.ClassCacheMetrics;
+import nullablej.utils.reflection.UReflection;
 import nullablej.nullvalue.IFindNullValue;
 
 /**
@@ -37,14 +38,37 @@ import nullablej.nullvalue.IFindNullValue;
  */
 public class DefaultConstructorFinder extends AbstractFromClassElementFinder implements IFindNullValue {
     
-    @SuppressWarnings("rawtypes")
-    private static final Map<Class, Constructor> constructors = new ConcurrentHashMap<>();
+    /** The name of the constructor cache in {@link ClassCacheMetrics}. */
+    public static final String CACHE_NAME = "DefaultConstructorFinder.constructors";
+    
+    /** The public default constructor of each class -- null if there is none. */
+    private static final ClassValue<Constructor<?>> constructors = new ClassValue<Constructor<?>>() {
+        @Override
+        protected Constructor<?> computeValue(Class<?> clzz) {
+            try {
+                val constructor = clzz.getConstructor();
+                ClassCacheMetrics.recordEntry(CACHE_NAME, clzz);
+                return constructor;
+            } catch (NoSuchMethodException | SecurityException e) {
+                return null;
+            }
+        }
+    };
     
     @Override
     public <OBJECT> OBJECT findNullValueOf(Class<OBJECT> clzz) {
         return findNullValueFromDefaultConstructor(clzz);
     }
     
+    @SuppressWarnings("unchecked")
+    @Override
+    public <OBJECT> Supplier<OBJECT> findNullValueSupplierOf(Class<OBJECT> clzz) {
+        val constructor = (Constructor<OBJECT>)constructors.get(clzz);
+        if (constructor == null)
+            return null;
+        return UReflection.constructorSupplierOrNull(constructor);
+    }
+    
     /**
      * Find null value by looking for its default constructor.
      * 
@@ -55,23 +79,12 @@ public class DefaultConstructorFinder extends AbstractFromClassElementFinder imp
      */
     @SuppressWarnings("unchecked")
     public static final <OBJECT> OBJECT findNullValueFromDefaultConstructor(Class<OBJECT> clzz) {
-        Constructor<OBJECT> constructor = null;
-        try {
-            if (constructors.containsKey(clzz)) {
-                constructor = (Constructor<OBJECT>)constructors.get(clzz);
-            } else {
-                constructor = clzz.getConstructor();
-                constructors.put(clzz, constructor);
-            }
-        } catch (Exception e) {
-        }
-        
+        val constructor = (Constructor<OBJECT>)constructors.get(clzz);
         if (constructor == null)
             return null;
         
         try {
             val value = constructor.newInstance();
-            constructors.put(clzz, constructor);
             return value;
         } catch (SecurityException | InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
             e.printStackTrace();
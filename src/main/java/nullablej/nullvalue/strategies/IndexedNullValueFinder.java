@@ -0,0 +1,170 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.nullvalue.strategies;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.synchronizedMap;
+import static nullablej.utils.reflection.UReflection.isPublicStaticFinalAndCompatible;
+import static nullablej.utils.reflection.UReflection.staticMethodSupplierOrNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+import lombok.val;
+import nullablej.nullvalue.IFindNullValue;
+import nullablej.nullvalue.processor.NullValueAnnotationValidator;
+
+/**
+ * This finder finds from the null-value index generated by {@link NullValueAnnotationValidator} at compile time.
+ * 
+ * Classes with {@code @NullValue} that are compiled with the annotation processor can be found by this finder
+ *   without scanning all its fields and methods.
+ * 
+ * @author NawaMan -- nawa@nawaman.net
+ */
+public class IndexedNullValueFinder extends AbstractFromClassElementFinder implements IFindNullValue {
+    
+    private static final String FIELD_PREFIX  = "field:";
+    private static final String METHOD_PREFIX = "method:";
+    
+    private static final Map<ClassLoader, Map<String, List<String>>> indexes = synchronizedMap(new WeakHashMap<>());
+    
+    @Override
+    public <OBJECT> OBJECT findNullValueOf(Class<OBJECT> clzz) {
+        val supplier = findNullValueSupplierOf(clzz);
+        return (supplier != null) ? supplier.get() : null;
+    }
+    
+    @Override
+    public <OBJECT> Supplier<OBJECT> findNullValueSupplierOf(Class<OBJECT> clzz) {
+        val entries = indexOf(clzz.getClassLoader()).get(clzz.getName());
+        if (entries == null)
+            return null;
+        
+        // Fields first then methods -- the same order as the annotated finders.
+        for (val entry : entries) {
+            if (!entry.startsWith(FIELD_PREFIX))
+                continue;
+            
+            val supplier = fieldSupplier(clzz, entry.substring(FIELD_PREFIX.length()));
+            if (supplier != null)
+                return supplier;
+        }
+        for (val entry : entries) {
+            if (!entry.startsWith(METHOD_PREFIX))
+                continue;
+            
+            val supplier = methodSupplier(clzz, entry.substring(METHOD_PREFIX.length()));
+            if (supplier != null)
+                return supplier;
+        }
+        return null;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static <OBJECT> Supplier<OBJECT> fieldSupplier(Class<OBJECT> clzz, String fieldName) {
+        try {
+            val field = clzz.getField(fieldName);
+            if (!isIndexedElement(clzz, field.getDeclaringClass(), field.getType(), field.getModifiers()))
+                return null;
+            
+            // The field is final so its value can be kept.
+            return constantSupplierOrNull((OBJECT)getFieldValueOrNull(field));
+        } catch (NoSuchFieldException | SecurityException e) {
+            return null;
+        }
+    }
+    
+    private static <OBJECT> Supplier<OBJECT> methodSupplier(Class<OBJECT> clzz, String methodName) {
+        try {
+            val method = clzz.getMethod(methodName);
+            if (!isIndexedElement(clzz, method.getDeclaringClass(), method.getReturnType(), method.getModifiers()))
+                return null;
+            
+            return staticMethodSupplierOrNull(method);
+        } catch (NoSuchMethodException | SecurityException e) {
+            return null;
+        }
+    }
+    
+    private static boolean isIndexedElement(Class<?> clzz, Class<?> declaringClass, Class<?> type, int modifiers) {
+        return (declaringClass == clzz)
+            && isPublicStaticFinalAndCompatible(clzz, type, modifiers);
+    }
+    
+    private static Object getFieldValueOrNull(Field field) {
+        try {
+            return field.get(null);
+        } catch (IllegalArgumentException | IllegalAccessException e) {
+            return null;
+        }
+    }
+    
+    private static Map<String, List<String>> indexOf(ClassLoader classLoader) {
+        if (classLoader == null)
+            return emptyMap();
+        
+        val index = indexes.get(classLoader);
+        if (index != null)
+            return index;
+        
+        val newIndex = loadIndex(classLoader);
+        indexes.put(classLoader, newIndex);
+        return newIndex;
+    }
+    
+    private static Map<String, List<String>> loadIndex(ClassLoader classLoader) {
+        val index = new HashMap<String, List<String>>();
+        try {
+            val resources = classLoader.getResources(NullValueAnnotationValidator.INDEX_RESOURCE_NAME);
+            while (resources.hasMoreElements()) {
+                val url = resources.nextElement();
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        val separator = line.indexOf('=');
+                        if (separator <= 0)
+                            continue;
+                        
+                        val className = line.substring(0, separator).trim();
+                        val element   = line.substring(separator + 1).trim();
+                        index.computeIfAbsent(className, name -> new ArrayList<>()).add(element);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // The index is only an optimization -- the annotated finders will still find the null value.
+        }
+        return index;
+    }
+    
+}
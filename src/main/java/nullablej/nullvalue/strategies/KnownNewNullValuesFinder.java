@@ -33,6 +33,7 @@ import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import nullablej.nullvalue.IFindNullValue;
 
@@ -79,4 +80,12 @@ public class KnownNewNullValuesFinder implements IFindNullValue {
         return null;
     }
     
+    @Override
+    public <OBJECT> Supplier<OBJECT> findNullValueSupplierOf(Class<OBJECT> clzz) {
+        if (knownNewNullValues.contains(clzz))
+            return defaultConstructorFinder.findNullValueSupplierOf(clzz);
+        
+        return null;
+    }
+    
 }
@@ -28,10 +28,10 @@ import static java.util.Collections.EMPTY_SET;
 
 import java.lang.reflect.Array;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -39,6 +39,7 @@ import java.util.function.Supplier;
 
 import lombok.val;
 import nullablej.nullvalue.IFindNullValue;
+import nullablej.utils.ClassCacheMetrics;
 
 /**
  * This finder finds from a list of known null values.
@@ -48,7 +49,11 @@ import nullablej.nullvalue.IFindNullValue;
 @SuppressWarnings("rawtypes")
 public class KnownNullValuesFinder implements IFindNullValue {
     
-    private static final Map<Class, Object> knownNullValues = new ConcurrentHashMap<>();
+    /** The name of the cache of the enum and array null values in {@link ClassCacheMetrics}. */
+    public static final String CACHE_NAME = "KnownNullValuesFinder.derivedNullValues";
+    
+    // Only the JDK classes -- never changed after this so no need for concurrent map.
+    private static final Map<Class, Object> knownNullValues = new HashMap<>();
     static {
         Map<Class, Object> map = knownNullValues;
         map.put(byte.class,    (byte)0);
@@ -85,6 +90,14 @@ public class KnownNullValuesFinder implements IFindNullValue {
         map.put(Map.class,        EMPTY_MAP);
     }
     
+    /** The null values of the enum (the first constant) and array (the empty array) classes -- null for others. */
+    private static final ClassValue<Object> derivedNullValues = new ClassValue<Object>() {
+        @Override
+        protected Object computeValue(Class<?> clzz) {
+            return deriveNullValueOf(clzz);
+        }
+    };
+    
     @SuppressWarnings("unchecked")
     @Override
     public <OBJECT> OBJECT findNullValueOf(Class<OBJECT> clzz) {
@@ -92,22 +105,36 @@ public class KnownNullValuesFinder implements IFindNullValue {
         if (nullFromKnown != null)
             return nullFromKnown;
         
+        if (clzz.isEnum() || clzz.isArray())
+            return (OBJECT)derivedNullValues.get(clzz);
+        
+        return null;
+    }
+    
+    private static Object deriveNullValueOf(Class<?> clzz) {
         if (clzz.isEnum()) {
             val enums = clzz.getEnumConstants();
-            if (enums.length != 0) {
-                val value = (OBJECT)enums[0];
-                knownNullValues.put(clzz, value);
-                return value;
-            }
+            if (enums.length == 0)
+                return null;
+            
+            ClassCacheMetrics.recordEntry(CACHE_NAME, clzz);
+            return enums[0];
         }
         if (clzz.isArray()) {
-            val componentType = clzz.getComponentType();
-            val value         = (OBJECT)Array.newInstance(componentType, 0);
-            knownNullValues.put(clzz, value);
-            return value;
+            ClassCacheMetrics.recordEntry(CACHE_NAME, clzz);
+            return Array.newInstance(clzz.getComponentType(), 0);
         }
-        
         return null;
     }
     
+    @Override
+    public <OBJECT> Supplier<OBJECT> findNullValueSupplierOf(Class<OBJECT> clzz) {
+        // All known null values are immutable so they can be kept.
+        val nullValue = findNullValueOf(clzz);
+        if (nullValue == null)
+            return null;
+        
+        return ()->nullValue;
+    }
+    
 }
@@ -24,6 +24,8 @@ package nullablej.nullvalue.strategies;
 
 import static nullablej.utils.reflection.UReflection.getValueFromStaticFieldOrNull;
 
+import java.util.function.Supplier;
+
 import lombok.NonNull;
 import lombok.val;
 import nullablej.nullvalue.IFindNullValue;
@@ -51,6 +53,12 @@ public class NamedFieldFinder extends AbstractFromClassElementFinder implements
         return findNullValueFromNamedField(clzz, fieldName);
     }
     
+    @Override
+    public <OBJECT> Supplier<OBJECT> findNullValueSupplierOf(Class<OBJECT> clzz) {
+        // The field is final so its value can be kept.
+        return constantSupplierOrNull(findNullValueOf(clzz));
+    }
+    
     /**
      * Find null value by looking for a field with specific name of the given class.
      * 
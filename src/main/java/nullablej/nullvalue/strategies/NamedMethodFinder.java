@@ -24,6 +24,8 @@ package nullablej.nullvalue.strategies;
 
 import static nullablej.utils.reflection.UReflection.invokeStaticMethodOrNull;
 
+import java.util.function.Supplier;
+
 import lombok.NonNull;
 import lombok.val;
 import nullablej.nullvalue.IFindNullValue;
@@ -51,6 +53,11 @@ public class NamedMethodFinder extends AbstractFromClassElementFinder implements
         return findNullValueFromAnnotatedMethod(clzz, methodName);
     }
     
+    @Override
+    public <OBJECT> Supplier<OBJECT> findNullValueSupplierOf(Class<OBJECT> clzz) {
+        return getPublicStaticFinalCompatibleMethodSupplier(clzz, method->methodName.equals(method.getName()));
+    }
+    
     /**
      * Find null value by looking for named method of the given class.
      * 
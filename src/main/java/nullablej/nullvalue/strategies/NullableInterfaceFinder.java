@@ -22,6 +22,9 @@
 
 package nullablej.nullvalue.strategies;
 
+import java.util.function.Supplier;
+
+import lombok.val;
 import nullablej.nullabledata.NullableData;
 import nullablej.nullvalue.IFindNullValue;
 
@@ -37,6 +40,16 @@ public class NullableInterfaceFinder implements IFindNullValue {
         return createNullValueForInterface(clzz);
     }
     
+    @Override
+    public <OBJECT> Supplier<OBJECT> findNullValueSupplierOf(Class<OBJECT> clzz) {
+        // The nullable data of null value is cached by NullableData so it can be kept.
+        val nullValue = createNullValueForInterface(clzz);
+        if (nullValue == null)
+            return null;
+        
+        return ()->nullValue;
+    }
+    
     /**
      * Find a nullable object of the given class.
      * 
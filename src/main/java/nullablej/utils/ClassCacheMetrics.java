@@ -0,0 +1,102 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.utils;
+
+import static java.util.Collections.synchronizedMap;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.val;
+
+/**
+ * The number of entries in the class-keyed caches of NullableJ, per class loader.
+ * 
+ * These caches are built on {@link ClassValue} so their entries go away with the class (and its class loader).
+ * The counts here are kept the same way -- weakly keyed by the class loader --
+ *   so a redeployed class loader disappears from the metric once it is collected.
+ * 
+ * The counts are recorded when an entry is computed so they do not slow down the lookups.
+ * As a {@link ClassValue} may compute a value more than once under contention, the counts are approximate.
+ * 
+ * @author NawaMan -- nawa@nawaman.net
+ */
+public final class ClassCacheMetrics {
+    
+    private static final Map<ClassLoader, Map<String, LongAdder>> counts = synchronizedMap(new WeakHashMap<>());
+    
+    private ClassCacheMetrics() {
+    }
+    
+    /**
+     * Record that an entry for the given class is added to the named cache.
+     * 
+     * @param cacheName  the name of the cache.
+     * @param clzz       the class the entry is for.
+     */
+    public static void recordEntry(String cacheName, Class<?> clzz) {
+        val loader = clzz.getClassLoader();
+        val caches = counts.computeIfAbsent(loader, key -> new ConcurrentHashMap<>());
+        caches.computeIfAbsent(cacheName, key -> new LongAdder()).increment();
+    }
+    
+    /**
+     * Returns the number of entries of each cache for the classes of the given class loader.
+     * 
+     * @param loader  the class loader -- null for the bootstrap class loader.
+     * @return  the counts by the cache name.
+     */
+    public static Map<String, Long> sizesOf(ClassLoader loader) {
+        val sizes  = new TreeMap<String, Long>();
+        val caches = counts.get(loader);
+        if (caches != null) {
+            caches.forEach((name, count) -> sizes.put(name, count.sum()));
+        }
+        return sizes;
+    }
+    
+    /**
+     * Returns the number of entries of the named cache for the classes of the given class loader.
+     * 
+     * @param cacheName  the name of the cache.
+     * @param loader     the class loader -- null for the bootstrap class loader.
+     * @return  the count.
+     */
+    public static long sizeOf(String cacheName, ClassLoader loader) {
+        val size = sizesOf(loader).get(cacheName);
+        return (size != null) ? size.longValue() : 0L;
+    }
+    
+    /**
+     * Returns the number of class loaders with entries in the caches -- the collected ones are not counted.
+     * 
+     * @return  the count.
+     */
+    public static int loaderCount() {
+        return counts.size();
+    }
+    
+}
@@ -0,0 +1,90 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.utils.reflection;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+import lombok.val;
+
+/**
+ * Access to the default methods of interfaces -- this is the version for Java 8 to 15.
+ * 
+ * The multi-release JAR also has the version for Java 16+ (from {@code src/main/java16})
+ *   which uses {@code InvocationHandler.invokeDefault} and calls {@code MethodHandles.privateLookupIn} directly.
+ * 
+ * @author NawaMan -- nawa@nawaman.net
+ */
+final class DefaultMethods {
+    
+    /** The value returned from {@link #invokeDefault(Object, Method, Object[])} when the method is not invoked. */
+    static final Object NOT_INVOKED = new Object();
+    
+    private DefaultMethods() {
+    }
+    
+    /**
+     * Invoke the default method of the proxy using the platform support -- not available in this version.
+     * 
+     * @param proxy       the proxy object.
+     * @param method      the method.
+     * @param methodArgs  the arguments.
+     * @return  {@link #NOT_INVOKED}.
+     * @throws Throwable  the exception thrown by the method.
+     */
+    static Object invokeDefault(Object proxy, Method method, Object[] methodArgs) throws Throwable {
+        return NOT_INVOKED;
+    }
+    
+    /**
+     * Returns the lookup with private access to the given type.
+     * 
+     * @param type  the type.
+     * @return  the lookup.
+     * @throws Exception  if the lookup cannot be created.
+     */
+    static Lookup privateLookupIn(Class<?> type) throws Exception {
+        val rawLookup = MethodHandles.lookup();
+        val method = getPrivateLookupInMethod();
+        if (method != null) {
+            val lookup = (Lookup)method.invoke(MethodHandles.class, type, rawLookup);
+            return lookup;
+        } else {
+            Constructor<Lookup> constructor = Lookup.class.getDeclaredConstructor(Class.class);
+            constructor.setAccessible(true);
+            val lookup = constructor.newInstance(type);
+            return lookup;
+        }
+    }
+    
+    private static Method getPrivateLookupInMethod() throws NoSuchMethodException {
+        try {
+            return MethodHandles.class.getMethod("privateLookupIn", new Class[] { Class.class, Lookup.class });
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+    
+}
@@ -24,10 +24,9 @@ package nullablej.utils.reflection;
 
 import static java.util.Arrays.asList;
 
-import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles.Lookup;
 import java.lang.invoke.MethodType;
-import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.ArrayList;
@@ -37,6 +36,7 @@ import java.util.Random;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 import lombok.AllArgsConstructor;
 import lombok.NonNull;
@@ -52,6 +52,16 @@ public class UProxy {
     
     private static final Random random = new Random();
     
+    private static final Object[] NO_ARGS = new Object[0];
+    
+    /** The handles of the default methods -- keyed by the declaring class of the methods. */
+    private static final ClassValue<Map<Method, MethodHandle>> defaultMethodHandles = new ClassValue<Map<Method, MethodHandle>>() {
+        @Override
+        protected Map<Method, MethodHandle> computeValue(Class<?> declaringClass) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    
     /**
      * Create a dynamic proxy for the given interface that call all default method.
      * 
@@ -120,47 +130,43 @@ public class UProxy {
      */
     public static Object invokeDefaultMethod(@NonNull Object proxy, @NonNull Method method, Object[] methodArgs) 
                     throws NotDefaultMethodException, Throwable {
-        // TODO - See if we can avoid this in case it is already done.
+        val result = DefaultMethods.invokeDefault(proxy, method, methodArgs);
+        if (result != DefaultMethods.NOT_INVOKED)
+            return result;
+        
+        val handle = getDefaultMethodHandle(method);
+        val args   = (methodArgs != null) ? methodArgs : NO_ARGS;
+        return (Object)handle.invokeExact(proxy, args);
+    }
+    
+    private static MethodHandle getDefaultMethodHandle(Method method) throws Throwable {
+        val handles = defaultMethodHandles.get(method.getDeclaringClass());
+        val handle  = handles.get(method);
+        if (handle != null)
+            return handle;
+        
         val defaultMethod  = getDefaultMethod(method);
         val declaringClass = defaultMethod.getDeclaringClass();
-        val lookup         = getLookup(declaringClass);
-        return invoke(lookup, declaringClass, method, proxy, methodArgs);
+        val lookup         = DefaultMethods.privateLookupIn(declaringClass);
+        val newHandle      = findDefaultMethodHandle(lookup, declaringClass, method);
+        val existing       = handles.putIfAbsent(method, newHandle);
+        return (existing != null) ? existing : newHandle;
     }
     
     // Thanks to https://blog.jooq.org/2018/03/28/correct-reflective-access-to-interface-default-methods-in-java-8-9-10
-    private static Object invoke(Lookup lookup, Class<?> type, Method method, Object proxy, Object[] methodArgs)
-            throws IllegalAccessException, Throwable {
+    /** Returns the unbound handle of the default method in the form of {@code (Object proxy, Object[] args)Object}. */
+    private static MethodHandle findDefaultMethodHandle(Lookup lookup, Class<?> type, Method method)
+            throws IllegalAccessException, NoSuchMethodException {
         val mthdName       = method.getName();
         val mthdReturnType = method.getReturnType();
         val mthdParamTypes = method.getParameterTypes();
         val mthdType       = MethodType.methodType(mthdReturnType, mthdParamTypes);
-        val result = lookup
+        val paramCount     = mthdParamTypes.length;
+        val handle = lookup
                 .findSpecial(type, mthdName, mthdType, type)
-                .bindTo(proxy)
-                .invokeWithArguments(methodArgs);
-        return result;
-    }
-    
-    private static Method getPrivateLookupInMethod() throws NoSuchMethodException {
-        try {
-            return MethodHandles.class.getMethod("privateLookupIn", new Class[] { Class.class, Lookup.class });
-        } catch (NoSuchMethodException e) {
-            return null;
-        }
-    }
-    
-    private static Lookup getLookup(Class<?> type) throws Exception {
-        val rawLookup = MethodHandles.lookup();
-        val method = getPrivateLookupInMethod();
-        if (method != null) {
-            val lookup = (Lookup)method.invoke(MethodHandles.class, type, rawLookup);
-            return lookup;
-        } else {
-            Constructor<Lookup> constructor = Lookup.class.getDeclaredConstructor(Class.class);
-            constructor.setAccessible(true);
-            val lookup = constructor.newInstance(type);
-            return lookup;
-        }
+                .asType(MethodType.genericMethodType(paramCount + 1))
+                .asSpreader(Object[].class, paramCount);
+        return handle;
     }
     
     private static Method getDefaultMethod(Method method) {
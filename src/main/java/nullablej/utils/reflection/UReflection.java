@@ -25,10 +25,17 @@ package nullablej.utils.reflection;
 import static java.util.Arrays.stream;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.function.Supplier;
+
+import lombok.val;
 
 /**
  * Utility class relating to reflection.
@@ -89,6 +96,67 @@ public class UReflection {
         }
     }
     
+    /**
+     * Create a supplier that invoke the given static method with no parameter using a method handle.
+     * 
+     * The supplier returns null if the method throws an exception (just like {@link #invokeStaticMethodOrNull})
+     *   but the errors are propagated.
+     * 
+     * @param method  the method.
+     * @return  the supplier or null if the method cannot be accessed or it requires parameters.
+     * 
+     * @param <R>  the return type of the method.
+     */
+    public static <R> Supplier<R> staticMethodSupplierOrNull(Method method) {
+        if (!Modifier.isStatic(method.getModifiers()))
+            return null;
+        if (method.getParameterCount() != 0)
+            return null;
+        
+        try {
+            val handle = MethodHandles.publicLookup().unreflect(method);
+            return toSupplier(handle);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * Create a supplier that invoke the given public constructor with no parameter using a method handle.
+     * 
+     * The supplier returns null if the constructor throws an exception but the errors are propagated.
+     * 
+     * @param constructor  the constructor.
+     * @return  the supplier or null if the constructor cannot be accessed or it requires parameters.
+     * 
+     * @param <R>  the type of the object.
+     */
+    public static <R> Supplier<R> constructorSupplierOrNull(Constructor<R> constructor) {
+        if (constructor.getParameterCount() != 0)
+            return null;
+        
+        try {
+            val handle = MethodHandles.publicLookup().unreflectConstructor(constructor);
+            return toSupplier(handle);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static <R> Supplier<R> toSupplier(MethodHandle handle) {
+        val objHandle = handle.asType(MethodType.methodType(Object.class));
+        return ()->{
+            try {
+                return (R)(Object)objHandle.invokeExact();
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                return null;
+            }
+        };
+    }
+    
     /**
      * Check if the given type and modifier indicate if they belong to 
      *   a public static final element that is compatible with the expected type.
@@ -0,0 +1,45 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.nullabledata;
+
+/**
+ * Check if the package of a class is exported by its module -- this is the version for Java 16+ (in the multi-release JAR).
+ * 
+ * @author NawaMan -- nawa@nawaman.net
+ */
+final class ModuleExports {
+    
+    private ModuleExports() {
+    }
+    
+    /**
+     * Check if the package of the given class is exported (to all modules) by its module.
+     * 
+     * @param clzz  the class -- not an array nor a primitive type.
+     * @return  {@code true} if the package is exported.
+     */
+    static boolean isExported(Class<?> clzz) {
+        return clzz.getModule().isExported(clzz.getPackageName());
+    }
+    
+}
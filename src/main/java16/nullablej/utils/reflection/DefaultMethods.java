@@ -0,0 +1,82 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.utils.reflection;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+
+/**
+ * Access to the default methods of interfaces -- this is the version for Java 16+ (in the multi-release JAR).
+ * 
+ * @author NawaMan -- nawa@nawaman.net
+ */
+final class DefaultMethods {
+    
+    /** The value returned from {@link #invokeDefault(Object, Method, Object[])} when the method is not invoked. */
+    static final Object NOT_INVOKED = new Object();
+    
+    private DefaultMethods() {
+    }
+    
+    /**
+     * Invoke the default method of the proxy using {@link InvocationHandler#invokeDefault(Object, Method, Object...)}.
+     * 
+     * @param proxy       the proxy object.
+     * @param method      the method.
+     * @param methodArgs  the arguments.
+     * @return  the result or {@link #NOT_INVOKED} if the method cannot be invoked this way.
+     * @throws Throwable  the exception thrown by the method.
+     */
+    static Object invokeDefault(Object proxy, Method method, Object[] methodArgs) throws Throwable {
+        if (!method.isDefault()
+         || !Proxy.isProxyClass(proxy.getClass())
+         || !isAccessible(method.getDeclaringClass()))
+            return NOT_INVOKED;
+        
+        return InvocationHandler.invokeDefault(proxy, method, methodArgs);
+    }
+    
+    /**
+     * Returns the lookup with private access to the given type.
+     * 
+     * @param type  the type.
+     * @return  the lookup.
+     * @throws Exception  if the lookup cannot be created.
+     */
+    static Lookup privateLookupIn(Class<?> type) throws Exception {
+        return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+    }
+    
+    private static boolean isAccessible(Class<?> type) {
+        for (Class<?> each = type; each != null; each = each.getEnclosingClass()) {
+            if (!Modifier.isPublic(each.getModifiers()))
+                return false;
+        }
+        return type.getModule().isExported(type.getPackageName(), DefaultMethods.class.getModule());
+    }
+    
+}
@@ -26,10 +26,16 @@ import static java.util.Arrays.asList;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.CharBuffer;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -39,8 +45,10 @@ import java.util.stream.Stream;
 
 import org.junit.Test;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
@@ -51,6 +59,7 @@ import static java.util.Collections.singletonMap;
 import lombok.Getter;
 import lombok.val;
 import lombok.experimental.ExtensionMethod;
+import nullablej.collections.NullableCache;
 import nullablej.nullable.Nullable;
 
 @ExtensionMethod({ NullableJ.class })
@@ -299,6 +308,35 @@ public class NullableJTest {
         assertTrue(blankString._trimToNull()._isEmpty());
     }
     
+    @Test
+    public void test_trim_noCopy() {
+        val trimmed = "String";
+        assertTrue(trimmed == trimmed._trimToNull());
+        assertTrue(trimmed == trimmed._trimToEmpty());
+        assertEquals("String", "\t String "._trimToEmpty());
+        assertEquals("",       " \n "._trimToEmpty());
+    }
+    
+    @Test
+    public void test_blankAndTrim__charSequence() {
+        StringBuilder builder = new StringBuilder(" \t Text\n");
+        StringBuilder blank   = new StringBuilder(" \t ");
+        StringBuilder nullBuilder = null;
+        
+        assertFalse(builder._isBlank());
+        assertTrue (blank._isBlank());
+        assertTrue (nullBuilder._isBlank());
+        assertTrue (new StringBuilder()._isBlank());
+        
+        assertEquals("Text", builder._trimToNull());
+        assertNull  (blank._trimToNull());
+        assertNull  (nullBuilder._trimToNull());
+        
+        assertEquals("Text", CharBuffer.wrap(" Text ")._trimToEmpty());
+        assertEquals("",     blank._trimToEmpty());
+        assertEquals("",     nullBuilder._trimToEmpty());
+    }
+    
     @Test
     public void test_contains() {
         assertTrue( "String"  ._contains("ring"));
@@ -618,6 +656,46 @@ public class NullableJTest {
         assertEquals("Else-null", map2._get(null, orElse));
     }
     
+    @Test
+    public void test_get__map_nullKey() {
+        Function<String,String> orElse = key->"Else-"+key;
+        
+        Map<String, String> concurrentMap = new ConcurrentHashMap<>(singletonMap("1", "One"));
+        Map<String, String> hashtable     = new Hashtable<>(singletonMap("1", "One"));
+        Map<String, String> treeMap       = new TreeMap<>(singletonMap("1", "One"));
+        for (val map : asList(concurrentMap, hashtable, treeMap)) {
+            assertEquals("One",       map._get("1"));
+            assertEquals(null,        map._get(null));
+            assertEquals("Else-null", map._get(null, orElse));
+        }
+        
+        // A tree map with a comparator may allow null key.
+        Map<String, String> nullFirstMap = new TreeMap<>(Comparator.nullsFirst(Comparator.<String>naturalOrder()));
+        nullFirstMap.put(null, "Null");
+        nullFirstMap.put("1",  null);
+        assertEquals("Null",   nullFirstMap._get(null));
+        assertEquals(null,     nullFirstMap._get("1"));
+        assertEquals("Else-1", nullFirstMap._get("1", orElse));
+    }
+    
+    @Test
+    public void test_get__orCache__map() {
+        AtomicInteger count = new AtomicInteger();
+        NullableCache<String, String> defaults = NullableCache.of(key -> "Default-" + key + "-" + count.incrementAndGet(), 10);
+        
+        Map<String, String> map1 = singletonMap("1", "One");
+        assertEquals("One",         map1._get("1", defaults));
+        assertEquals("Default-2-1", map1._get("2", defaults));
+        assertEquals("Default-2-1", map1._get("2", defaults));
+        
+        // Null map or key are computed without caching.
+        Map<String, String> map2 = null;
+        assertEquals("Default-2-2",    map2._get("2", defaults));
+        assertEquals("Default-null-3", map1._get(null, defaults));
+        assertEquals("Default-null-4", map1._get(null, defaults));
+        assertEquals(1, defaults.size());
+    }
+    
     @Test
     public void test_first__array() {
         String[] array1 = new String[] { "One", "Two" };
@@ -738,6 +816,102 @@ public class NullableJTest {
         assertNull(listNull._butOnly(length5));
     }
     
+    @Test
+    public void test_butOnlyThat__largeArray() {
+        Integer[] numbers = new Integer[200];
+        for (int i = 0; i < numbers.length; i++) {
+            numbers[i] = ((i % 7) == 0) ? null : i;
+        }
+        Integer[] multiplesOf3 = numbers._butOnly(n -> (n != null) && ((n % 3) == 0));
+        assertEquals(Integer[].class, multiplesOf3.getClass());
+        assertEquals(57, multiplesOf3.length);
+        assertEquals(3,   multiplesOf3[0].intValue());
+        assertEquals(198, multiplesOf3[56].intValue());
+        
+        Integer[] all = numbers._butOnly(n -> true);
+        assertNotSame(numbers, all);
+        assertArrayEquals(numbers, all);
+    }
+    
+    @Test
+    public void test_butOnlyThat__smallArray_testedOnce() {
+        Integer[] numbers = { 1, null, 2, 3, null, 4 };
+        AtomicInteger tested = new AtomicInteger();
+        Integer[] evens = numbers._butOnly(n -> (tested.incrementAndGet() > 0) && (n != null) && ((n % 2) == 0));
+        assertArrayEquals(new Integer[] { 2, 4 }, evens);
+        assertEquals(numbers.length, tested.get());
+    }
+    
+    @Test
+    public void test_butOnlyNonNull__toArrayAndList() {
+        String[] array1 = new String[] {"One", null, "Two"};
+        assertArrayEquals(new String[] {"One", "Two"}, array1._butOnlyNonNull());
+        
+        String[] array2 = new String[] {"One", "Two"};
+        assertNotSame(array2, array2._butOnlyNonNull());
+        
+        String[] arrayNull = null;
+        assertNull(arrayNull._butOnlyNonNull());
+        
+        List<String> list1 = asList("One", null, "Two");
+        assertEquals(asList("One", "Two"), list1._butOnlyNonNull());
+        
+        List<String> listNull = null;
+        assertNull(listNull._butOnlyNonNull());
+    }
+    
+    @Test
+    public void test_parallel() {
+        List<Integer> numbers = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            numbers.add(((i % 7) == 0) ? null : i);
+        }
+        Integer[] array = numbers.toArray(new Integer[0]);
+        
+        // Null elements are skipped so the conditions do not need to check.
+        Predicate<Integer> isEven = n -> (n % 2) == 0;
+        
+        int before = ParallelThreshold.get();
+        ParallelThreshold.set(100);
+        try {
+            List<Integer> evens = numbers._butOnlyPar(isEven);
+            assertEquals(numbers._butOnly(n -> (n != null) && (n % 2) == 0), evens);
+            assertArrayEquals(evens.toArray(), array._butOnlyPar(isEven));
+            assertEquals(Integer[].class, array._butOnlyPar(isEven).getClass());
+            assertTrue(numbers._butOnlyPar$(isEven).isParallel());
+            assertFalse(asList(1, 2)._butOnlyPar$(isEven).isParallel());
+            
+            assertEquals(Integer.valueOf(0), array._findAnyPar(n -> n > 9990).map(n -> 0).get());
+            assertFalse(numbers._findAnyPar(n -> n < 0).isPresent());
+            
+            assertTrue (numbers._hasAllPar(n -> n > 0));
+            assertFalse(array  ._hasAllPar(isEven));
+            assertTrue (array  ._hasSomePar(n -> n == 9999));
+            assertFalse(numbers._hasSomePar(n -> n == 7));
+            
+            // No non-null element to test -- like an empty input.
+            Integer[]     allNullArray = new Integer[200];
+            List<Integer> allNullList  = asList(allNullArray);
+            assertFalse(allNullArray._hasAllPar(isEven));
+            assertFalse(allNullList ._hasAllPar(isEven));
+            assertFalse(asList((Integer)null)._hasAllPar(isEven));
+            
+            List<List<Integer>> nested = asList(asList(1, null), null, asList(2, 3));
+            assertEquals("1,2,3", nested._flatMapPar$(each -> each).map(String::valueOf).collect(joining(",")));
+            
+            Integer[] nullArray = null;
+            List<Integer> nullList = null;
+            assertNull (nullArray._butOnlyPar(isEven));
+            assertNull (nullList._butOnlyPar(isEven));
+            assertFalse(nullList._findAnyPar(isEven).isPresent());
+            assertFalse(nullArray._hasAllPar(isEven));
+            assertFalse(nullList._hasSomePar(isEven));
+        } finally {
+            ParallelThreshold.set(before);
+        }
+        assertEquals(before, ParallelThreshold.get());
+    }
+    
     @Test
     public void test_find__array() {
         val length5 = (Predicate<String>)s->s.length() == 5;
@@ -0,0 +1,103 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.Test;
+
+import lombok.val;
+
+public class PatternCacheTest {
+    
+    @Test
+    public void testHitAndMiss() {
+        val cache   = new PatternCache(10);
+        val pattern = cache.get("[0-9]+");
+        assertSame(pattern, cache.get("[0-9]+"));
+        assertEquals(1, cache.missCount());
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.size());
+        
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.hitCount());
+        assertNotSame(pattern, cache.get("[0-9]+"));
+    }
+    
+    @Test
+    public void testEvictLeastRecentlyUsed() {
+        val cache = new PatternCache(2);
+        val a = cache.get("a");
+        cache.get("b");
+        cache.get("a");
+        cache.get("c");
+        
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.evictionCount());
+        assertSame(a, cache.get("a"));
+        assertEquals(3, cache.missCount());
+        
+        // "b" was the least recently used so it is compiled again.
+        cache.get("b");
+        assertEquals(4, cache.missCount());
+    }
+    
+    @Test
+    public void testHitsDoNotEvict() {
+        val cache = new PatternCache(2);
+        cache.get("a");
+        cache.get("b");
+        for (int i = 0; i < 100; i++) {
+            cache.get("a");
+            cache.get("b");
+        }
+        assertEquals(200, cache.hitCount());
+        assertEquals(2,   cache.missCount());
+        assertEquals(0,   cache.evictionCount());
+    }
+    
+    @Test(expected=PatternSyntaxException.class)
+    public void testInvalid() {
+        new PatternCache(2).get("[");
+    }
+    
+    @Test
+    public void testNullableJUsesFullMatch() {
+        val shared = PatternCache.shared();
+        val hits   = shared.hitCount();
+        assertTrue (NullableJ._matches("12345", "[0-9]+"));
+        assertFalse(NullableJ._matches("12a45", "[0-9]+"));
+        assertTrue (NullableJ._notMatches("a12", "[0-9]+"));
+        assertEquals(null,  NullableJ._whenMatches("a12", "[0-9]+").get());
+        assertEquals("a12", NullableJ._whenNotMatches("a12", "[0-9]+").get());
+        assertTrue(shared.hitCount() >= hits + 4);
+    }
+    
+}
@@ -0,0 +1,210 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import lombok.val;
+import nullablej.nullvalue.NullValues;
+
+public class NullableCacheTest {
+    
+    @Test
+    public void testComputeOnce() {
+        val count = new AtomicInteger();
+        val cache = NullableCache.<String, String>of(key -> key + "-" + count.incrementAndGet(), 10);
+        assertEquals("A-1", cache.get("A"));
+        assertEquals("A-1", cache.get("A"));
+        assertEquals("B-2", cache.apply("B"));
+        assertEquals(1, cache.hitCount());
+        assertEquals(2, cache.missCount());
+        
+        cache.invalidate("A");
+        assertEquals("A-3", cache.get("A"));
+    }
+    
+    @Test
+    public void testNullIsNotCached() {
+        val count = new AtomicInteger();
+        val cache = NullableCache.<String, String>of(key -> (count.incrementAndGet() > 0) ? null : key, 10);
+        assertNull(cache.get("A"));
+        assertNull(cache.get("A"));
+        assertNull(cache.get(null));
+        assertEquals(3, count.get());
+        assertEquals(0, cache.size());
+    }
+    
+    @Test
+    public void testNullValueIsCached() {
+        val count = new AtomicInteger();
+        val cache = NullableCache.<String, String>of(key -> {
+            count.incrementAndGet();
+            return NullValues.nullValueOf(String.class);
+        }, 10);
+        val value = cache.get("A");
+        assertSame(value, cache.get("A"));
+        assertEquals(1, count.get());
+    }
+    
+    @Test
+    public void testSizeEviction() {
+        val count = new AtomicInteger();
+        val cache = NullableCache.<String, Integer>of(key -> count.incrementAndGet(), 2);
+        cache.get("A");
+        cache.get("B");
+        cache.get("A");
+        cache.get("C");
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.evictionCount());
+        
+        // "B" was the least recently used.
+        assertEquals(Integer.valueOf(1), cache.get("A"));
+        assertEquals(Integer.valueOf(4), cache.get("B"));
+    }
+    
+    @Test
+    public void testTimeToLive() {
+        val now   = new AtomicLong();
+        val count = new AtomicInteger();
+        val cache = NullableCache.<String, Integer>of(key -> count.incrementAndGet(), 10, Duration.ofNanos(20), now::get);
+        assertEquals(Integer.valueOf(1), cache.get("A"));
+        now.set(19);
+        assertEquals(Integer.valueOf(1), cache.get("A"));
+        now.set(20);
+        assertEquals(Integer.valueOf(2), cache.get("A"));
+    }
+    
+    @Test
+    public void testExpiredRemovedWithoutSizePressure() {
+        val now   = new AtomicLong();
+        val cache = NullableCache.<String, String>of(key -> key, 10, Duration.ofNanos(20), now::get);
+        cache.get("A");
+        cache.get("B");
+        now.set(20);
+        cache.get("C");
+        assertEquals(1, cache.size());
+        assertEquals(0, cache.evictionCount());
+    }
+    
+    @Test
+    public void testInvalidatedKeysDoNotPileUp() {
+        val cache = NullableCache.<String, String>of(key -> key, 2);
+        cache.get("A");
+        for (int i = 0; i < 100; i++) {
+            cache.invalidate("B");
+            cache.get("B");
+        }
+        assertEquals(2,   cache.size());
+        assertEquals(0,   cache.evictionCount());
+        assertEquals(101, cache.missCount());
+        
+        // Compacting the invalidated ones out of the clock keeps "A".
+        assertEquals("A", cache.get("A"));
+        assertEquals(101, cache.missCount());
+    }
+    
+    @Test
+    public void testLoaderFailure() {
+        val count = new AtomicInteger();
+        val cache = NullableCache.<String, String>of(key -> {
+            if (count.incrementAndGet() == 1)
+                throw new IllegalArgumentException(key);
+            return key;
+        }, 10);
+        try {
+            cache.get("A");
+            fail();
+        } catch (IllegalArgumentException exception) {
+            assertEquals("A", exception.getMessage());
+        }
+        assertEquals(0, cache.size());
+        assertEquals("A", cache.get("A"));
+    }
+    
+    @Test
+    public void testLoaderUsesOtherKey() {
+        val cache = new AtomicReference<NullableCache<Integer, Integer>>();
+        cache.set(NullableCache.of(n -> (n <= 1) ? 1 : n * cache.get().get(n - 1), 10));
+        assertEquals(Integer.valueOf(120), cache.get().get(5));
+        assertEquals(5, cache.get().size());
+    }
+    
+    @Test(expected=IllegalStateException.class)
+    public void testLoaderUsesSameKey() {
+        val cache = new AtomicReference<NullableCache<String, String>>();
+        cache.set(NullableCache.of(key -> cache.get().get(key), 10));
+        cache.get().get("A");
+    }
+    
+    @Test
+    public void testSlowLoaderDoesNotBlockOtherKeys() throws Exception {
+        val started = new CountDownLatch(1);
+        val release = new CountDownLatch(1);
+        val cache   = NullableCache.<String, String>of(key -> {
+            if (key.equals("slow")) {
+                started.countDown();
+                await(release);
+            }
+            return key + "!";
+        }, 10);
+        
+        val executor = Executors.newFixedThreadPool(2);
+        try {
+            val slow = executor.submit(() -> cache.get("slow"));
+            started.await();
+            
+            assertEquals("fast!", cache.get("fast"));
+            
+            // Another thread asking for the same key waits for the loading one.
+            val waiting = executor.submit(() -> cache.get("slow"));
+            release.countDown();
+            assertEquals("slow!", slow.get(10, TimeUnit.SECONDS));
+            assertEquals("slow!", waiting.get(10, TimeUnit.SECONDS));
+            assertEquals(2, cache.missCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+    
+}
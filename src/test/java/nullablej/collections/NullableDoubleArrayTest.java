@@ -0,0 +1,50 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.collections;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import lombok.val;
+import nullablej.nullable.NullableDouble;
+
+public class NullableDoubleArrayTest {
+    
+    @Test
+    public void testBasic() {
+        val array = NullableDoubleArray.from(new Double[] { 1.5, null, -2.5 });
+        assertEquals(-1.0, array.sum(), 0.0);
+        assertEquals(NullableDouble.of(-2.5), array.min());
+        assertEquals(NullableDouble.of(1.5),  array.max());
+        assertArrayEquals(new double[] { 1.5, 0.0, -2.5 }, array.orElse(0.0), 0.0);
+        assertEquals(Arrays.asList(1.5, null, -2.5), array.toList());
+        
+        assertFalse(new NullableDoubleArray(0).max().isPresent());
+    }
+    
+}
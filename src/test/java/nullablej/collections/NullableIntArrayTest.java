@@ -0,0 +1,124 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.collections;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import lombok.val;
+import nullablej.nullable.NullableInt;
+
+public class NullableIntArrayTest {
+    
+    @Test
+    public void testAccess() {
+        val array = NullableIntArray.from(new Integer[] { 1, null, 3 });
+        assertEquals(3, array.length());
+        assertEquals(NullableInt.of(1),    array.get(0));
+        assertEquals(NullableInt.empty(),  array.get(1));
+        assertTrue (array.isNull(1));
+        assertFalse(array.isNull(2));
+        assertEquals(-1, array.orElse(1, -1));
+        assertNull(array.getBoxed(1));
+        
+        array.set(1, 2);
+        array.setNull(0);
+        array.set(2, (Integer)null);
+        assertEquals("NullableIntArray[null, 2, null]", array.toString());
+        assertEquals(1, array.nonNullCount());
+        assertEquals(2, array.nullCount());
+    }
+    
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void testOutOfBound() {
+        new NullableIntArray(3).get(3);
+    }
+    
+    @Test
+    public void testAggregates() {
+        val array = NullableIntArray.from(Arrays.asList(5, null, -2, 7, null));
+        assertEquals(10L,                 array.sum());
+        assertEquals(NullableInt.of(-2),  array.min());
+        assertEquals(NullableInt.of(7),   array.max());
+        assertArrayEquals(new int[] { 5, 0, -2, 7, 0 }, array.orElse(0));
+        
+        val empty = new NullableIntArray(4);
+        assertEquals(0L, empty.sum());
+        assertFalse(empty.min().isPresent());
+        assertFalse(empty.max().isPresent());
+        assertArrayEquals(new int[] { 9, 9, 9, 9 }, empty.orElse(9));
+    }
+    
+    @Test
+    public void testAgainstBoxed() {
+        val random = new Random(17);
+        val boxed  = new ArrayList<Integer>();
+        for (int i = 0; i < 1000; i++) {
+            // Mostly-valid runs exercise the fully-valid word loop.
+            boxed.add(((i / 128) % 2 == 0) || random.nextBoolean() ? random.nextInt(1000) - 500 : null);
+        }
+        val array = NullableIntArray.from(boxed);
+        
+        long sum = 0;
+        int  min = Integer.MAX_VALUE;
+        int  max = Integer.MIN_VALUE;
+        for (val value : boxed) {
+            if (value == null)
+                continue;
+            sum += value;
+            min  = Math.min(min, value);
+            max  = Math.max(max, value);
+        }
+        assertEquals(sum, array.sum());
+        assertEquals(min, array.min().orElse(0));
+        assertEquals(max, array.max().orElse(0));
+        assertEquals(boxed, array.toList());
+        assertArrayEquals(boxed.toArray(new Integer[0]), array.toBoxedArray());
+        assertEquals(array, NullableIntArray.from(array.toBoxedArray()));
+        assertEquals(array.hashCode(), NullableIntArray.from(array.toBoxedArray()).hashCode());
+        
+        val filled = array.orElse(-1000);
+        for (int i = 0; i < boxed.size(); i++) {
+            assertEquals((boxed.get(i) == null) ? -1000 : boxed.get(i).intValue(), filled[i]);
+        }
+    }
+    
+    @Test
+    public void testOf() {
+        val source = new int[] { 1, 2, 3 };
+        val array  = NullableIntArray.of(source);
+        source[0] = 100;
+        assertEquals(0,  array.nullCount());
+        assertEquals(6L, array.sum());
+    }
+    
+}
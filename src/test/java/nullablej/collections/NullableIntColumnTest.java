@@ -0,0 +1,132 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.ArrayList;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import lombok.val;
+import nullablej.nullable.NullableInt;
+
+public class NullableIntColumnTest {
+    
+    @Test
+    public void testAllocate() {
+        val column = NullableIntColumn.allocate(100);
+        assertTrue(column.buffer().isDirect());
+        assertEquals(100, column.nullCount());
+        assertEquals(NullableInt.empty(), column.get(5));
+        
+        column.set(5,  10);
+        column.set(70, -3);
+        column.set(99, (Integer)null);
+        assertEquals(NullableInt.of(10), column.get(5));
+        assertEquals(-1, column.orElse(6, -1));
+        assertNull(column.getBoxed(99));
+        assertEquals(2,  column.nonNullCount());
+        assertEquals(7L, column.sum());
+        assertEquals(NullableInt.of(-3), column.min());
+        assertEquals(NullableInt.of(10), column.max());
+        
+        column.setNull(5);
+        assertTrue(column.isNull(5));
+        assertEquals(-3L, column.sum());
+        val expected = new ArrayList<Integer>(Collections.<Integer>nCopies(100, null));
+        expected.set(70, -3);
+        assertEquals(expected, column.toArray().toList());
+        assertEquals(NullableInt.of(-3), column.toArray().get(70));
+    }
+    
+    @Test
+    public void testWrap() {
+        val buffer = ByteBuffer.allocate(4 + NullableIntColumn.sizeInBytes(3));
+        buffer.position(4);
+        val column = NullableIntColumn.wrap(buffer, 3);
+        column.set(1, 42);
+        assertEquals("NullableIntColumn[null, 42, null]", column.toString());
+        
+        // The same bytes seen by another column.
+        buffer.position(4);
+        assertEquals(NullableInt.of(42), NullableIntColumn.wrap(buffer, 3).get(1));
+    }
+    
+    @Test
+    public void testWrap_bitsBeyondLength() {
+        // Written by someone else -- all the validity bits are set, even those beyond the length.
+        val buffer = ByteBuffer.allocate(NullableIntColumn.sizeInBytes(3)).order(BufferColumn.BYTE_ORDER);
+        buffer.putLong(-1L).putInt(1).putInt(2).putInt(3);
+        buffer.clear();
+        
+        val column = NullableIntColumn.wrap(buffer, 3);
+        assertEquals(3,  column.nonNullCount());
+        assertEquals(0,  column.nullCount());
+        assertEquals(6L, column.sum());
+        assertEquals(NullableInt.of(1), column.min());
+        assertEquals(NullableInt.of(3), column.max());
+    }
+    
+    @Test(expected=IllegalArgumentException.class)
+    public void testWrap_tooSmall() {
+        NullableIntColumn.wrap(ByteBuffer.allocate(8), 3);
+    }
+    
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void testOutOfBound() {
+        NullableIntColumn.allocate(3).get(3);
+    }
+    
+    @Test
+    public void testMap() throws Exception {
+        val file = File.createTempFile("nullable-column", ".bin");
+        file.deleteOnExit();
+        
+        try (val raf = new RandomAccessFile(file, "rw")) {
+            val column = NullableIntColumn.map(raf.getChannel(), MapMode.READ_WRITE, 0, 1000);
+            for (int i = 0; i < 1000; i += 3) {
+                column.set(i, i);
+            }
+            column.force();
+        }
+        assertEquals(NullableIntColumn.sizeInBytes(1000), file.length());
+        
+        try (val raf = new RandomAccessFile(file, "r")) {
+            val column = NullableIntColumn.map(raf.getChannel(), MapMode.READ_ONLY, 0, 1000);
+            assertEquals(NullableInt.of(999), column.get(999));
+            assertFalse(column.get(998).isPresent());
+            assertEquals(334, column.nonNullCount());
+            assertEquals(166833L, column.sum());
+        }
+    }
+    
+}
@@ -0,0 +1,116 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.collections;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import lombok.val;
+import nullablej.nullable.Nullable;
+
+public class NullableListTest {
+    
+    @Test
+    public void testBasic() {
+        val list = NullableList.of("a", null, "c", null, null);
+        assertEquals(5, list.size());
+        assertEquals("a", list.get(0));
+        assertNull(list.get(1));
+        assertEquals("c", list.get(2));
+        assertEquals(Arrays.asList("a", null, "c", null, null), list);
+        assertEquals(2, list.nonNullCount());
+        assertEquals(3, list.nullCount());
+        assertTrue(list.isNull(3));
+        assertFalse(list.isNull(2));
+    }
+    
+    @Test
+    public void testGetNullable() {
+        val list = NullableList.of("a", null);
+        assertEquals(Nullable.of("a"), list.getNullable(0));
+        assertSame(Nullable.empty(), list.getNullable(1));
+    }
+    
+    @Test
+    public void testSameAsArrayList() {
+        val random   = new Random(42);
+        val expected = new ArrayList<Integer>();
+        val list     = new NullableList<Integer>();
+        for (int i = 0; i < 1000; i++) {
+            val value = (random.nextInt(3) == 0) ? Integer.valueOf(i) : null;
+            expected.add(value);
+            list.add(value);
+        }
+        assertEquals(expected, list);
+        
+        for (int i = 0; i < 500; i++) {
+            val index = random.nextInt(expected.size());
+            val value = (random.nextInt(2) == 0) ? Integer.valueOf(-i) : null;
+            assertEquals(expected.set(index, value), list.set(index, value));
+        }
+        assertEquals(expected, list);
+        assertEquals(expected.stream().filter(each -> each != null).count(), list.nonNullCount());
+        assertEquals(expected.stream().filter(each -> each != null).collect(toList()), list.nonNullStream().collect(toList()));
+        assertEquals(expected.subList(100, 700).stream().filter(each -> each == null).count(), list.nullCount(100, 700));
+    }
+    
+    @Test
+    public void testNonNullIteration() {
+        val list = new NullableList<String>();
+        for (int i = 0; i < 300; i++) {
+            list.add(((i % 100) == 7) ? ("v" + i) : null);
+        }
+        assertArrayEquals(new int[] { 7, 107, 207 }, list.nonNullIndexes());
+        
+        val found = new ArrayList<String>();
+        list.forEachNonNull((value, index) -> found.add(index + "=" + value));
+        assertEquals(Arrays.asList("7=v7", "107=v107", "207=v207"), found);
+    }
+    
+    @Test
+    public void testClear() {
+        val list = NullableList.of("a", null, "c");
+        list.clear();
+        assertEquals(0, list.size());
+        list.add(null);
+        list.add("x");
+        assertEquals(Arrays.asList(null, "x"), list);
+    }
+    
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testOutOfBound() {
+        NullableList.of("a").get(1);
+    }
+    
+}
@@ -0,0 +1,49 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.collections;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import lombok.val;
+import nullablej.nullable.NullableLong;
+
+public class NullableLongArrayTest {
+    
+    @Test
+    public void testBasic() {
+        val array = NullableLongArray.from(Arrays.asList(5L, null, Long.MAX_VALUE - 10, null));
+        assertEquals(Long.MAX_VALUE - 5,           array.sum());
+        assertEquals(NullableLong.of(5L),          array.min());
+        assertEquals(NullableLong.of(Long.MAX_VALUE - 10), array.max());
+        assertArrayEquals(new long[] { 5L, -1L, Long.MAX_VALUE - 10, -1L }, array.orElse(-1L));
+        assertNull(array.toBoxedArray()[1]);
+        assertEquals(2, array.nullCount());
+    }
+    
+}
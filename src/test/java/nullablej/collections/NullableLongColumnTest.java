@@ -0,0 +1,55 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import org.junit.Test;
+
+import lombok.val;
+import nullablej.nullable.NullableLong;
+
+public class NullableLongColumnTest {
+    
+    @Test
+    public void testBasic() {
+        val column = NullableLongColumn.allocate(65);
+        column.set(64, Long.MAX_VALUE);
+        assertEquals(NullableLong.of(Long.MAX_VALUE), column.max());
+        assertEquals(64, column.nullCount());
+    }
+    
+    @Test
+    public void testSum() {
+        val column = NullableLongColumn.allocate(3);
+        column.set(0, 5L);
+        column.set(1, (Long)null);
+        column.set(2, -7L);
+        assertEquals(-2L, column.sum());
+        assertEquals(NullableLong.of(-7L), column.min());
+        assertEquals(Long.valueOf(5L), column.getBoxed(0));
+        assertFalse(column.get(1).isPresent());
+    }
+    
+}
@@ -22,9 +22,12 @@
 
 package nullablej.nullable;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Test;
@@ -43,4 +46,59 @@ public class LiveNullableTest {
         assertTrue(nullableRef.isPresent());
     }
     
+    @Test
+    public void testMemoized() {
+        val count    = new AtomicInteger();
+        val nullable = LiveNullable.memoized(() -> "Hi" + count.incrementAndGet());
+        assertEquals(0, count.get());
+        assertEquals("Hi1", nullable.get());
+        assertEquals("HI1", nullable.map(String::toUpperCase).orElseThrow());
+        assertTrue(nullable.isPresent());
+        assertEquals(1, count.get());
+    }
+    
+    @Test
+    public void testMemoized_null() {
+        val count    = new AtomicInteger();
+        val nullable = LiveNullable.memoized(() -> {
+            count.incrementAndGet();
+            return (String)null;
+        });
+        assertFalse(nullable.isPresent());
+        assertFalse(nullable.isPresent());
+        assertEquals(1, count.get());
+    }
+    
+    @Test
+    public void testCached() throws InterruptedException {
+        val count    = new AtomicInteger();
+        val nullable = LiveNullable.cached(() -> count.incrementAndGet(), Duration.ofMillis(50));
+        assertEquals(1, (int)nullable.get());
+        assertEquals(1, (int)nullable.get());
+        
+        Thread.sleep(100);
+        assertEquals(2, (int)nullable.get());
+        assertEquals(2, count.get());
+    }
+    
+    @Test
+    public void testCached_foreverTimeToLive() {
+        for (val timeToLive : new Duration[] { Duration.ofSeconds(Long.MAX_VALUE), Duration.ofNanos(Long.MAX_VALUE) }) {
+            val count    = new AtomicInteger();
+            val nullable = LiveNullable.cached(() -> count.incrementAndGet(), timeToLive);
+            assertEquals(1, (int)nullable.get());
+            assertEquals(1, (int)nullable.get());
+            assertEquals(1, count.get());
+        }
+    }
+    
+    @Test
+    public void testCached_zeroTimeToLive() {
+        val count    = new AtomicInteger();
+        val nullable = LiveNullable.cached(() -> count.incrementAndGet(), Duration.ZERO);
+        nullable.get();
+        nullable.get();
+        assertEquals(2, count.get());
+    }
+    
 }
@@ -0,0 +1,87 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.nullable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.function.Supplier;
+
+import org.junit.After;
+import org.junit.Test;
+
+import lombok.val;
+
+public class NullPointerFallbacksTest {
+    
+    private String nullString = null;
+    
+    @After
+    public void tearDown() {
+        NullPointerFallbacks.disable();
+        NullPointerFallbacks.reset();
+    }
+    
+    @Test
+    public void testDisabledByDefault() {
+        NullPointerFallbacks.reset();
+        Supplier<Integer> supplier = () -> nullString.length();
+        assertFalse(Nullable.from(supplier).isPresent());
+        assertEquals(0L, NullPointerFallbacks.countOf(supplier.getClass()));
+    }
+    
+    @Test
+    public void testCount() {
+        NullPointerFallbacks.enable();
+        Supplier<Integer> throwing = () -> nullString.length();
+        Supplier<Integer> fine     = () -> 5;
+        for (int i = 0; i < 3; i++) {
+            Nullable.from(throwing);
+            Nullable.from(fine);
+        }
+        Nullable.nullable(throwing);
+        LiveNullable.from(throwing).get();
+        
+        assertEquals(5L, NullPointerFallbacks.countOf(throwing.getClass()));
+        assertEquals(0L, NullPointerFallbacks.countOf(fine.getClass()));
+        
+        val snapshot = NullPointerFallbacks.snapshot();
+        assertEquals(1, snapshot.size());
+        assertEquals(5L, (long)snapshot.get(throwing.getClass().getName()));
+    }
+    
+    @Test
+    public void testSnapshotOrder() {
+        NullPointerFallbacks.enable();
+        Supplier<Integer> less = () -> nullString.length();
+        Supplier<Integer> more = () -> nullString.hashCode();
+        Nullable.from(less);
+        Nullable.from(more);
+        Nullable.from(more);
+        
+        val first = NullPointerFallbacks.snapshot().keySet().iterator().next();
+        assertTrue(first.equals(more.getClass().getName()));
+    }
+    
+}
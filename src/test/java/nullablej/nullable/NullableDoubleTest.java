@@ -0,0 +1,53 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.nullable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.OptionalDouble;
+
+import org.junit.Test;
+
+public class NullableDoubleTest {
+    
+    @Test
+    public void testBasic() {
+        assertEquals(2.5,  NullableDouble.of(5.0).map(d -> d / 2).orElse(0.0), 0.0);
+        assertEquals(-1.0, NullableDouble.of((Double)null).map(d -> d / 2).orElse(-1.0), 0.0);
+        assertEquals(-1.0, NullableDouble.of(5.0).filter(d -> d > 10).orElse(-1.0), 0.0);
+        assertEquals(5L,   NullableDouble.of(5.4).mapToLong(Math::round).orElse(0L));
+        assertEquals(NullableDouble.of(Double.NaN), NullableDouble.of(Double.NaN));
+        assertEquals("NullableDouble.of(2.5)", NullableDouble.of(2.5).toString());
+    }
+    
+    @Test
+    public void testConversion() {
+        assertEquals(Nullable.of(2.5),       NullableDouble.of(2.5).toNullable());
+        assertEquals(NullableDouble.of(2.5), NullableDouble.from(Nullable.of(2.5)));
+        assertEquals(OptionalDouble.of(2.5), NullableDouble.of(2.5).toOptional());
+        assertEquals(NullableDouble.of(5.0), Nullable.of("Hello").mapToDouble(String::length));
+        assertFalse(NullableDouble.empty().toNullable().isPresent());
+    }
+    
+}
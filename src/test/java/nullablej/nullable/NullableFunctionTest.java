@@ -0,0 +1,103 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.nullable;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import lombok.val;
+import nullablej.ParallelThreshold;
+
+public class NullableFunctionTest {
+    
+    private static final NullableFunction<String, Integer> lengthOf = NullablePipeline.start(String.class)
+            .map(String::trim)
+            .filter(text -> !text.isEmpty())
+            .map(String::length)
+            .orElse(0);
+    
+    @Test
+    public void testApply() {
+        assertEquals(5, (int)lengthOf.apply(" Hello "));
+        assertEquals(0, (int)lengthOf.apply("  "));
+        assertEquals(0, (int)lengthOf.apply(null));
+        
+        val withSupplier = NullablePipeline.start(String.class).map(String::trim).orElseGet(() -> "none");
+        assertEquals("none", withSupplier.apply(null));
+    }
+    
+    @Test
+    public void testBatch() {
+        val inputs = new String[] { "Hello", null, "  ", " Hi " };
+        assertArrayEquals(new Integer[] { 5, 0, 0, 2 }, lengthOf.applyAll(inputs, Integer[]::new));
+        assertEquals(asList(5, 0, 0, 2), lengthOf.applyAll(asList(inputs)));
+        assertEquals(asList(5, 0, 0, 2), lengthOf.applyAll(Stream.of(inputs)).collect(toList()));
+    }
+    
+    @Test
+    public void testParallel() {
+        val count  = ParallelThreshold.get() * 4 + 3;
+        val inputs = IntStream.range(0, count).mapToObj(i -> ((i % 3) == 0) ? null : ("x" + i)).toArray(String[]::new);
+        
+        val expected = lengthOf.applyAll(inputs, Integer[]::new);
+        assertArrayEquals(expected, lengthOf.applyAllParallel(inputs, Integer[]::new));
+        assertEquals(asList(expected), lengthOf.applyAllParallel(asList(inputs)));
+    }
+    
+    @Test
+    public void testParallel_threshold() {
+        val before = ParallelThreshold.get();
+        ParallelThreshold.set(2);
+        try {
+            val inputs   = IntStream.range(0, 100).mapToObj(i -> ((i % 3) == 0) ? null : ("x" + i)).toArray(String[]::new);
+            val expected = lengthOf.applyAll(inputs, Integer[]::new);
+            assertArrayEquals(expected, lengthOf.applyAllParallel(inputs, Integer[]::new));
+            assertEquals(asList(expected), lengthOf.applyAllParallel(asList(inputs)));
+        } finally {
+            ParallelThreshold.set(before);
+        }
+    }
+    
+    @Test
+    public void testParallel_resultsAreModifiable() {
+        val count  = ParallelThreshold.get() + 1;
+        val inputs = IntStream.range(0, count).mapToObj(i -> "x" + i).collect(toList());
+        
+        val results = lengthOf.applyAllParallel(inputs);
+        results.add(null);
+        assertEquals(count + 1, results.size());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testResultsTooShort() {
+        lengthOf.applyAll(new String[] { "a", "b" }, new Integer[1]);
+    }
+    
+}
@@ -0,0 +1,102 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.nullable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import lombok.val;
+
+public class NullableIntTest {
+    
+    @Test
+    public void testPresent() {
+        val nullable = NullableInt.of(5);
+        assertTrue(nullable.isPresent());
+        assertEquals(5, nullable.orElse(0));
+        assertEquals(Integer.valueOf(5), nullable.get());
+        assertEquals(11, nullable.map(i -> i * 2).map(i -> i + 1).orElse(0));
+        assertEquals("NullableInt.of(5)", nullable.toString());
+    }
+    
+    @Test
+    public void testEmpty() {
+        val nullable = NullableInt.of((Integer)null);
+        assertFalse(nullable.isPresent());
+        assertTrue(nullable.isNull());
+        assertNull(nullable.get());
+        assertEquals(-1, nullable.orElse(-1));
+        assertEquals(-2, nullable.orElseGet(() -> -2));
+        assertEquals(-1, nullable.map(i -> i * 2).orElse(-1));
+        assertEquals("NullableInt.EMPTY", nullable.toString());
+        assertEquals(NullableInt.empty(), nullable);
+    }
+    
+    @Test
+    public void testFilter() {
+        assertEquals(4,  NullableInt.of(4).filter(i -> (i % 2) == 0).orElse(-1));
+        assertEquals(-1, NullableInt.of(5).filter(i -> (i % 2) == 0).orElse(-1));
+        assertEquals(-1, NullableInt.empty().filter(i -> true).orElse(-1));
+    }
+    
+    @Test
+    public void testMapToOthers() {
+        assertEquals(10L,    NullableInt.of(5).mapToLong(i -> i * 2L).orElse(0L));
+        assertEquals(2.5,    NullableInt.of(5).mapToDouble(i -> i / 2.0).orElse(0.0), 0.0);
+        assertEquals("5",    NullableInt.of(5).mapToObj(String::valueOf).orElse(""));
+        assertFalse(NullableInt.empty().mapToLong(i -> i).isPresent());
+        assertFalse(NullableInt.empty().mapToObj(String::valueOf).isPresent());
+    }
+    
+    @Test
+    public void testIfPresent() {
+        val sum = new AtomicInteger();
+        NullableInt.of(5).ifPresent(sum::addAndGet);
+        NullableInt.empty().ifPresent(sum::addAndGet);
+        assertEquals(5, sum.get());
+    }
+    
+    @Test
+    public void testConversion() {
+        assertEquals(Nullable.of(5),     NullableInt.of(5).toNullable());
+        assertFalse(NullableInt.empty().toNullable().isPresent());
+        assertEquals(NullableInt.of(5),  NullableInt.from(Nullable.of(5)));
+        assertEquals(NullableInt.empty(), NullableInt.from(Nullable.empty()));
+        assertEquals(OptionalInt.of(5),  NullableInt.of(5).toOptional());
+        assertEquals(NullableInt.of(5),  Nullable.of("Hello").mapToInt(String::length));
+        assertEquals(NullableInt.empty(), Nullable.of((String)null).mapToInt(String::length));
+    }
+    
+    @Test(expected = NullPointerException.class)
+    public void testOrElseThrow() {
+        NullableInt.empty().orElseThrow();
+    }
+    
+}
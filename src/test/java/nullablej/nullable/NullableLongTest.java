@@ -0,0 +1,52 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.nullable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.OptionalLong;
+
+import org.junit.Test;
+
+public class NullableLongTest {
+    
+    @Test
+    public void testBasic() {
+        assertEquals(11L, NullableLong.of(5L).map(l -> l * 2).map(l -> l + 1).orElse(0L));
+        assertEquals(-1L, NullableLong.of((Long)null).map(l -> l * 2).orElse(-1L));
+        assertEquals(-1L, NullableLong.of(5L).filter(l -> l > 10).orElse(-1L));
+        assertEquals(5,   NullableLong.of(5L).mapToInt(l -> (int)l).orElse(0));
+        assertEquals("NullableLong.of(5)", NullableLong.of(5L).toString());
+    }
+    
+    @Test
+    public void testConversion() {
+        assertEquals(Nullable.of(5L),       NullableLong.of(5L).toNullable());
+        assertEquals(NullableLong.of(5L),   NullableLong.from(Nullable.of(5L)));
+        assertEquals(OptionalLong.empty(),  NullableLong.empty().toOptional());
+        assertEquals(NullableLong.of(5L),   Nullable.of("Hello").mapToLong(String::length));
+        assertFalse(NullableLong.from(Nullable.empty()).isPresent());
+    }
+    
+}
@@ -0,0 +1,83 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.nullable;
+
+import static nullablej.nullable.NullablePath.path;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.val;
+
+public class NullablePathTest {
+    
+    @Data
+    @AllArgsConstructor
+    public static class Address {
+        private String city;
+    }
+    
+    @Data
+    @AllArgsConstructor
+    public static class Person {
+        private String  name;
+        private Address address;
+    }
+    
+    private static final NullablePath<Person, String> cityOf = path(Person::getAddress).then(Address::getCity);
+    
+    @Test
+    public void testPresent() {
+        val person = new Person("Jack", new Address("Bangkok"));
+        assertEquals("Bangkok",             cityOf.get(person));
+        assertEquals(Nullable.of("Bangkok"), cityOf.apply(person));
+        assertEquals(7, (int)cityOf.then(String::length).get(person));
+    }
+    
+    @Test
+    public void testNullAlongThePath() {
+        assertNull(cityOf.get(null));
+        assertNull(cityOf.get(new Person("Jack", null)));
+        assertNull(cityOf.get(new Person("Jack", new Address(null))));
+        assertFalse(cityOf.apply(new Person("Jack", null)).isPresent());
+        assertEquals("Unknown", cityOf.orElse(new Person("Jack", null), "Unknown"));
+    }
+    
+    @Test
+    public void testFromNullable() {
+        assertEquals("Bangkok", cityOf.from(Nullable.of(new Person("Jack", new Address("Bangkok")))).get());
+        assertFalse(cityOf.from(Nullable.empty()).isPresent());
+        assertFalse(cityOf.from(null).isPresent());
+    }
+    
+    @Test
+    public void testAsFunction() {
+        val city = Nullable.of(new Person("Jack", new Address("Bangkok"))).flatMap(cityOf);
+        assertEquals("Bangkok", city.get());
+    }
+    
+}
@@ -0,0 +1,88 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.nullable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+
+import org.junit.Test;
+
+import lombok.val;
+
+public class NullablePipelineTest {
+    
+    private static final NullablePipeline<String, Integer> lengthOf = NullablePipeline.start(String.class)
+            .map(String::trim)
+            .filter(text -> !text.isEmpty())
+            .map(String::length);
+    
+    @Test
+    public void testBasic() {
+        assertEquals(5,  (int)lengthOf.get("  Hello "));
+        assertEquals(-1, (int)lengthOf.orElse("   ", -1));
+        assertEquals(-1, (int)lengthOf.orElse(null, -1));
+        assertEquals(Nullable.of(5), lengthOf.apply("Hello"));
+        assertFalse(lengthOf.isPresent(""));
+    }
+    
+    @Test
+    public void testSameAsNullable() {
+        for (val input : new String[] { null, "", "  ", " Hi ", "Hello" }) {
+            val expected = Nullable.of(input).map(String::trim).filter(text -> !text.isEmpty()).map(String::length);
+            assertEquals(expected, lengthOf.apply(input));
+        }
+    }
+    
+    @Test
+    public void testFlatMapAndPeek() {
+        val peeked   = new ArrayList<String>();
+        val pipeline = NullablePipeline.<String>start()
+                .peek(peeked::add)
+                .flatMap(text -> text.isEmpty() ? Nullable.<Integer>empty() : Nullable.of(text.length()))
+                .map(length -> length * 2);
+        assertEquals(10, (int)pipeline.get("Hello"));
+        assertNull(pipeline.get(""));
+        assertNull(pipeline.get(null));
+        assertEquals(2, peeked.size());
+    }
+    
+    @Test
+    public void testIfPresentAndFrom() {
+        val result = new ArrayList<Integer>();
+        assertTrue(lengthOf.ifPresent("Hello", result::add));
+        assertFalse(lengthOf.ifPresent("", result::add));
+        assertEquals(1, result.size());
+        assertEquals(Nullable.of(2), lengthOf.from(Nullable.of("Hi")));
+        assertEquals(Nullable.of(2), Nullable.of("Hi").flatMap(lengthOf));
+    }
+    
+    @Test
+    public void testNoStage() {
+        assertEquals("Hi", NullablePipeline.<String>start().get("Hi"));
+    }
+    
+}
@@ -29,6 +29,8 @@ import static org.junit.Assert.assertTrue;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.lang.reflect.Proxy;
+import java.util.List;
 
 import org.junit.Test;
 
@@ -37,6 +39,8 @@ import lombok.Data;
 import lombok.val;
 import nullablej.nullable.IAsNullable;
 import nullablej.nullable.Nullable;
+import nullablej.nullabledata.processor.NullableDataGenerator;
+import nullablej.nullabledata.processor.NullableDataType;
 
 public class NullableDataTest {
     
@@ -182,4 +186,175 @@ public class NullableDataTest {
         assertFalse(thing.equals(thingAndMore));
     }
     
+    //== Test generated ==
+    
+    @NullableDataType
+    public static interface Pet {
+        
+        public String getName();
+        public void setName(String name);
+        public int getAge();
+        public List<String> getTags();
+        
+        public default String getDescription() {
+            return getName() + " (" + getAge() + ")";
+        }
+        
+    }
+    
+    @Data
+    @AllArgsConstructor
+    public static class PetImpl implements Pet {
+        private String       name;
+        private int          age;
+        private List<String> tags;
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testGenerated() {
+        val pet = NullableData.of(new PetImpl("Tom", 3, null), Pet.class);
+        assertEquals(generatedClassName(Pet.class), pet.getClass().getName());
+        assertEquals("Tom (3)", pet.getDescription());
+        pet.setName("Jerry");
+        assertEquals("Jerry", pet.getName());
+        assertTrue(((IAsNullable<Pet>)pet).asNullable().isPresent());
+        
+        val nullPet = NullableData.of(null, Pet.class);
+        assertEquals(generatedClassName(Pet.class), nullPet.getClass().getName());
+        assertEquals("",      nullPet.getName());
+        assertEquals(0,       nullPet.getAge());
+        assertEquals(0,       nullPet.getTags().size());
+        assertEquals(" (0)",  nullPet.getDescription());
+        assertEquals("Pet=null", nullPet.toString());
+        assertEquals(Pet.class.hashCode(), nullPet.hashCode());
+        assertFalse(((IAsNullable<Pet>)nullPet).asNullable().isPresent());
+        nullPet.setName("Nothing");
+    }
+    
+    @NullableDataType
+    public static interface Holder<T extends CharSequence> extends Nullable<Holder<T>> {
+        
+        public T getValue();
+        
+    }
+    
+    @Data
+    @AllArgsConstructor
+    public static class HolderImpl<T extends CharSequence> implements Holder<T> {
+        private T value;
+        public Holder<T> get() {
+            return this;
+        }
+    }
+    
+    @Test
+    public void testGenerated_genericAndNullable() {
+        val holder = new HolderImpl<String>("Hello");
+        @SuppressWarnings("unchecked")
+        val nullableHolder = NullableData.from(()->holder, Holder.class);
+        assertEquals(generatedClassName(Holder.class), nullableHolder.getClass().getName());
+        assertTrue(holder == nullableHolder.get());
+        assertTrue(nullableHolder.isPresent());
+        assertEquals("Hello", nullableHolder.getValue());
+        
+        @SuppressWarnings("unchecked")
+        val nullHolder = NullableData.of(null, Holder.class);
+        assertEquals(generatedClassName(Holder.class), nullHolder.getClass().getName());
+        assertFalse(nullHolder.isPresent());
+        assertEquals("", nullHolder.getValue());
+    }
+    
+    private static String generatedClassName(Class<?> dataClass) {
+        return dataClass.getName() + NullableDataGenerator.GENERATED_CLASS_SUFFIX;
+    }
+    
+    //== Test spun ==
+    
+    public static interface Measure {
+        
+        public long   scale(long value, double factor, char unit, boolean round);
+        public double ratio();
+        public char   unit();
+        public int[]  values();
+        
+    }
+    
+    public static class MeasureImpl implements Measure {
+        public long scale(long value, double factor, char unit, boolean round) {
+            double scaled = value * factor;
+            return (round ? Math.round(scaled) : (long)scaled) + unit;
+        }
+        public double ratio() {
+            return 0.5;
+        }
+        public char unit() {
+            return 'm';
+        }
+        public int[] values() {
+            return new int[] { 1, 2 };
+        }
+    }
+    
+    @Test
+    public void testSpun() {
+        val measure = NullableData.of(new MeasureImpl(), Measure.class);
+        assertTrue(measure instanceof AbstractNullableData);
+        assertFalse(Proxy.isProxyClass(measure.getClass()));
+        assertEquals(15 + 'a', measure.scale(10, 1.5, 'a', true));
+        assertEquals(0.5, measure.ratio(), 0.0);
+        assertEquals('m', measure.unit());
+        assertEquals(2, measure.values().length);
+        
+        val nullMeasure = NullableData.of(null, Measure.class);
+        assertTrue(nullMeasure instanceof AbstractNullableData);
+        assertEquals(0L,   nullMeasure.scale(10, 1.5, 'a', true));
+        assertEquals(0.0,  nullMeasure.ratio(), 0.0);
+        assertEquals(0,    nullMeasure.values().length);
+        assertEquals("Measure=null", nullMeasure.toString());
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testSpun_asNullable() {
+        val person = NullableData.of(new PersonImpl("Jack"), Person.class, AnotherNullablePerson.class);
+        assertTrue(person instanceof AbstractNullableData);
+        assertEquals("Jack Smith", person.getFullName());
+        assertEquals("Jack", person.asNullable().map(Person::getFirstName).get());
+        
+        val nullPerson = NullableData.of(null, Person.class, AnotherNullablePerson.class);
+        assertTrue(nullPerson instanceof AbstractNullableData);
+        assertEquals("", nullPerson.getFullName());
+        assertEquals("AnotherNullablePerson=null", nullPerson.toString());
+        assertFalse(((IAsNullable<Person>)nullPerson).asNullable().isPresent());
+    }
+    
+    static interface Hidden {
+        String       name();
+        int          count();
+        List<String> tags();
+        default String label() {
+            return name() + "#" + count();
+        }
+    }
+    
+    @Test
+    public void testSpun_nonPublicUsesProxy() {
+        val hidden = NullableData.of(null, Hidden.class);
+        assertTrue(Proxy.isProxyClass(hidden.getClass()));
+        assertEquals("",   hidden.name());
+        assertEquals(0,    hidden.count());
+        assertEquals("#0", hidden.label());
+        assertEquals(0,    hidden.tags().size());
+        assertEquals("Hidden=null", hidden.toString());
+        
+        val present = NullableData.of(new Hidden() {
+            public String       name()  { return "hidden"; }
+            public int          count() { return 5; }
+            public List<String> tags()  { return null; }
+        }, Hidden.class);
+        assertTrue(Proxy.isProxyClass(present.getClass()));
+        assertEquals("hidden#5", present.label());
+    }
+    
 }
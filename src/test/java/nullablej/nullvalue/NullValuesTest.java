@@ -25,17 +25,25 @@ package nullablej.nullvalue;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import lombok.val;
+import nullablej.nullvalue.strategies.AnnotatedMethodFinder;
+import nullablej.nullvalue.strategies.IndexedNullValueFinder;
 
 public class NullValuesTest {
     
@@ -127,4 +135,81 @@ public class NullValuesTest {
         assertNotNull(nullIPerson);
     }
     
+    public static abstract class NoNullValue {
+        public NoNullValue(String name) {}
+    }
+    
+    @Test
+    public void testNoNullValue_remembered() {
+        assertNull(nullValues.findNullValueOf(NoNullValue.class));
+        assertNull(nullValues.findNullValueOf(NoNullValue.class));
+    }
+    
+    @Test
+    public void testResolutionIsRemembered() {
+        assertSame(Person1.nullPerson1, nullValues.findNullValueOf(Person1.class));
+        assertSame(Person1.nullPerson1, nullValues.findNullValueOf(Person1.class));
+        
+        // New null value is still created everytime.
+        val list1 = nullValues.findNullValueOf(ArrayList.class);
+        val list2 = nullValues.findNullValueOf(ArrayList.class);
+        assertEquals(0, list1.size());
+        assertNotSame(list1, list2);
+    }
+    
+    private static final AtomicInteger person5Count = new AtomicInteger();
+    @Data
+    @AllArgsConstructor
+    public static class Person5 {
+        public static final Person5 getNullValue() { return new Person5("Null#" + person5Count.incrementAndGet()); }
+        private String name;
+    }
+    
+    @Test
+    public void testNamedMethod_calledEveryTime() {
+        Person5 nullPerson5a = nullValues.findNullValueOf(Person5.class);
+        Person5 nullPerson5b = nullValues.findNullValueOf(Person5.class);
+        assertEquals(person5Count.get() - 1, Integer.parseInt(nullPerson5a.getName().substring(5)));
+        assertEquals(person5Count.get(),     Integer.parseInt(nullPerson5b.getName().substring(5)));
+    }
+    
+    @Data
+    @AllArgsConstructor
+    public static class Person6 {
+        @nullablej.nullvalue.processor.NullValue
+        public static final Person6 nullPerson6 = new Person6(null);
+        private String name;
+    }
+    
+    @Test
+    public void testIndexed() {
+        // The index is generated by the annotation processor when this test is compiled.
+        val indexedFinder = new IndexedNullValueFinder();
+        assertSame(Person6.nullPerson6, indexedFinder.findNullValueOf(Person6.class));
+        assertNull(indexedFinder.findNullValueOf(Person1.class));
+        
+        assertSame(Person6.nullPerson6, nullValues.findNullValueOf(Person6.class));
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Person7 {
+        @NullValue
+        public static final Person7 nullPerson7() { throw new IllegalStateException("Broken null value."); }
+        private String name;
+    }
+    
+    @Test
+    public void testBrokenNullValueMethod_fallThrough() {
+        // The broken method gives no null value -- the same for the reflective and the supplier paths.
+        val methodFinder = new AnnotatedMethodFinder(NullValues.NULL_VALUE_ANNOTTION_NAME);
+        assertNull(methodFinder.findNullValueOf(Person7.class));
+        assertNull(methodFinder.findNullValueSupplierOf(Person7.class).get());
+        
+        // So the next finder (the default constructor) is used.
+        assertEquals(new Person7(), nullValues.findNullValueOf(Person7.class));
+        assertEquals(new Person7(), nullValues.findNullValueOf(Person7.class));
+    }
+    
 }
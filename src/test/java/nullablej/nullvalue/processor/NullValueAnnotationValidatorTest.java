@@ -0,0 +1,95 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.nullvalue.processor;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import javax.tools.ToolProvider;
+
+import org.junit.Test;
+
+import lombok.val;
+
+public class NullValueAnnotationValidatorTest {
+    
+    @Test
+    public void testIncrementalCompilationKeepsOtherEntries() throws IOException {
+        val sources = Files.createTempDirectory("null-value-sources");
+        val classes = Files.createTempDirectory("null-value-classes");
+        
+        val first  = writeSource(sources, "First",  "public static final First NULL = new First();");
+        val second = writeSource(sources, "Second", "public static final Second NULL = new Second();");
+        compile(classes, first, second);
+        assertEquals(asList("index.First=field:NULL", "index.Second=field:NULL"), readIndex(classes));
+        
+        // Recompile only Second with the annotation moved to a method -- First is kept and Second is replaced.
+        writeSource(sources, "Second", "public static final Second nullSecond() { return new Second(); }");
+        compile(classes, second);
+        assertEquals(asList("index.First=field:NULL", "index.Second=method:nullSecond"), readIndex(classes));
+    }
+    
+    private static Path writeSource(Path sources, String name, String member) throws IOException {
+        val dir = sources.resolve("index");
+        Files.createDirectories(dir);
+        val file = dir.resolve(name + ".java");
+        val code = "package index;\n"
+                 + "public class " + name + " {\n"
+                 + "    @nullablej.nullvalue.processor.NullValue\n"
+                 + "    " + member + "\n"
+                 + "}\n";
+        Files.write(file, code.getBytes(UTF_8));
+        return file;
+    }
+    
+    private static void compile(Path classes, Path ... sources) {
+        val compiler  = ToolProvider.getSystemJavaCompiler();
+        val classpath = System.getProperty("java.class.path") + File.pathSeparator + classes;
+        val arguments = new String[sources.length + 6];
+        arguments[0] = "-classpath";
+        arguments[1] = classpath;
+        arguments[2] = "-d";
+        arguments[3] = classes.toString();
+        arguments[4] = "-processor";
+        arguments[5] = NullValueAnnotationValidator.class.getName();
+        for (int i = 0; i < sources.length; i++) {
+            arguments[i + 6] = sources[i].toString();
+        }
+        assertEquals(0, compiler.run(null, null, null, arguments));
+    }
+    
+    private static List<String> readIndex(Path classes) throws IOException {
+        val index = classes.resolve(NullValueAnnotationValidator.INDEX_RESOURCE_NAME);
+        assertTrue(Files.exists(index));
+        return Files.readAllLines(index, UTF_8);
+    }
+    
+}
@@ -0,0 +1,97 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import org.junit.Test;
+
+import lombok.val;
+import nullablej.nullvalue.strategies.DefaultConstructorFinder;
+import nullablej.nullvalue.strategies.KnownNullValuesFinder;
+
+public class ClassCacheMetricsTest {
+    
+    public static enum Color { RED, GREEN }
+    
+    public static class Plain {
+        public Plain() {}
+    }
+    
+    public static class NoDefault {
+        public NoDefault(int value) {}
+    }
+    
+    @Test
+    public void testCountPerLoader() throws Exception {
+        val loader = newIsolatedLoader();
+        try {
+            val colorClass = loader.loadClass(Color.class.getName());
+            val plainClass = loader.loadClass(Plain.class.getName());
+            val noDefault  = loader.loadClass(NoDefault.class.getName());
+            
+            assertNotNull(new KnownNullValuesFinder().findNullValueOf(colorClass));
+            assertNotNull(new DefaultConstructorFinder().findNullValueSupplierOf(plainClass).get());
+            assertNotNull(DefaultConstructorFinder.findNullValueFromDefaultConstructor(plainClass));
+            
+            // Only the classes with a default constructor are counted.
+            assertNull(new DefaultConstructorFinder().findNullValueSupplierOf(noDefault));
+            
+            assertEquals(1L, ClassCacheMetrics.sizeOf(KnownNullValuesFinder.CACHE_NAME,    loader));
+            assertEquals(1L, ClassCacheMetrics.sizeOf(DefaultConstructorFinder.CACHE_NAME, loader));
+            assertEquals(0L, ClassCacheMetrics.sizeOf(DefaultConstructorFinder.CACHE_NAME, new URLClassLoader(new URL[0])));
+        } finally {
+            loader.close();
+        }
+    }
+    
+    @Test
+    public void testLoaderCanBeCollected() throws Exception {
+        val loaderRef = cacheInIsolatedLoader();
+        for (int i = 0; (i < 50) && (loaderRef.get() != null); i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertNull("The class loader is still reachable.", loaderRef.get());
+    }
+    
+    private static WeakReference<ClassLoader> cacheInIsolatedLoader() throws Exception {
+        val loader = newIsolatedLoader();
+        new KnownNullValuesFinder().findNullValueOf(loader.loadClass(Color.class.getName()));
+        DefaultConstructorFinder.findNullValueFromDefaultConstructor(loader.loadClass(Plain.class.getName()));
+        loader.close();
+        return new WeakReference<ClassLoader>(loader);
+    }
+    
+    private static URLClassLoader newIsolatedLoader() {
+        val location = ClassCacheMetricsTest.class.getProtectionDomain().getCodeSource().getLocation();
+        return new URLClassLoader(new URL[] { location }, null);
+    }
+    
+}
@@ -0,0 +1,74 @@
+//  MIT License
+//  
+//  Copyright (c) 2017-2023 Nawa Manusitthipol
+//  
+//  Permission is hereby granted, free of charge, to any person obtaining a copy
+//  of this software and associated documentation files (the "Software"), to deal
+//  in the Software without restriction, including without limitation the rights
+//  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+//  copies of the Software, and to permit persons to whom the Software is
+//  furnished to do so, subject to the following conditions:
+//  
+//  The above copyright notice and this permission notice shall be included in all
+//  copies or substantial portions of the Software.
+//  
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+//  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+//  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+//  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+//  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+//  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+//  SOFTWARE.
+
+package nullablej.utils.reflection;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import lombok.val;
+
+public class UProxyTest {
+    
+    public static interface Greeter {
+        
+        public default String greet(String name, int times) {
+            val buffer = new StringBuilder();
+            for (int i = 0; i < times; i++) {
+                buffer.append("Hello ").append(name).append("! ");
+            }
+            return buffer.toString().trim();
+        }
+        
+        public default int length(String text) {
+            return text.length();
+        }
+        
+        public default String name() {
+            return "Greeter";
+        }
+        
+    }
+    
+    public static interface LoudGreeter extends Greeter {
+        
+        public default String shout(String name) {
+            return greet(name, 1).toUpperCase();
+        }
+        
+    }
+    
+    @Test
+    public void testDefaultMethods() {
+        val greeter = UProxy.createDefaultProxy(LoudGreeter.class);
+        assertEquals("Hello Jack! Hello Jack!", greeter.greet("Jack", 2));
+        assertEquals(5,                         greeter.length("Hello"));
+        assertEquals("Greeter",                 greeter.name());
+        assertEquals("HELLO JILL!",             greeter.shout("Jill"));
+        
+        // The second calls use the cached handles.
+        assertEquals("Hello Jim!", greeter.greet("Jim", 1));
+        assertEquals("HELLO JIM!", greeter.shout("Jim"));
+    }
+    
+}